@@ -0,0 +1,97 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.util.JDomCfg;
+import org.apache.maven.model.jdom.util.JDomCleanup;
+import org.apache.maven.model.jdom.util.JDomCleanupHelper;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Benchmarks the {@link JDomCleanupHelper} and the single-pass {@link JDomCleanup} on POMs with many, deeply nested profiles. The cleanup modifies the
+ * document, so every operation works on a fresh copy that is created outside of the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JDomCleanupHelperBenchmark {
+
+  @Param({"10", "100", "1000"})
+  public int profiles;
+
+  @Param({"2", "20"})
+  public int depth;
+
+  private Element project;
+  private Element copy;
+
+  @Setup
+  public void setUp() throws IOException, JDOMException {
+    project = PomCorpus.parse(PomCorpus.withProfiles(profiles, depth)).getRootElement();
+  }
+
+  @Setup(Level.Invocation)
+  public void copyProject() {
+    copy = project.clone();
+  }
+
+  @Benchmark
+  public Element squashMultilines() {
+    JDomCleanupHelper.squashMultilines(copy);
+    return copy;
+  }
+
+  @Benchmark
+  public Element cleanup() {
+    for (String element : Arrays.asList(JDomCfg.POM_ELEMENT_PROPERTIES, JDomCfg.POM_ELEMENT_DEPENDENCIES)) {
+      JDomCleanupHelper.cleanupEmptyElements(copy, element);
+    }
+    JDomCleanupHelper.cleanupEmptyProfiles(copy, Collections.singletonList(JDomCfg.POM_ELEMENT_PROJECT));
+    return copy;
+  }
+
+  @Benchmark
+  public Element cleanupAndSquashMultilines() {
+    cleanup();
+    return squashMultilines();
+  }
+
+  @Benchmark
+  public Element fusedCleanupAndSquashMultilines() {
+    new JDomCleanup(Arrays.asList(JDomCfg.POM_ELEMENT_PROPERTIES, JDomCfg.POM_ELEMENT_DEPENDENCIES),
+            Collections.singletonList(JDomCfg.POM_ELEMENT_PROJECT), true).cleanup(copy);
+    return copy;
+  }
+}
@@ -0,0 +1,90 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.jdom.JDomDependencies;
+import org.apache.maven.model.jdom.JDomModel;
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks importing a BOM into the {@code dependencyManagement} of a small POM, adding the dependencies one by one
+ * compared to {@link JDomDependencies#addAll(java.util.Collection)}. Every operation works on a fresh copy of the
+ * document that is created outside of the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JDomDependenciesAddAllBenchmark {
+
+  @Param({"100", "800"})
+  public int bomEntries;
+
+  private Document document;
+  private List<Dependency> bom;
+  private List<Dependency> managedDependencies;
+
+  @Setup
+  public void setUp() throws IOException, JDOMException {
+    document = PomCorpus.parse(PomCorpus.withDependencies(10));
+    bom = new ArrayList<>(bomEntries);
+    for (int i = 0; i < bomEntries; i++) {
+      Dependency dependency = new Dependency();
+      dependency.setGroupId("com.coremedia.bom");
+      dependency.setArtifactId("bom-artifact-" + i);
+      dependency.setVersion("1.0");
+      bom.add(dependency);
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void copyDocument() {
+    managedDependencies = new JDomModel(document.clone()).getDependencyManagement().getDependencies();
+  }
+
+  @Benchmark
+  public List<Dependency> addOneByOne() {
+    for (Dependency dependency : bom) {
+      managedDependencies.add(dependency);
+    }
+    return managedDependencies;
+  }
+
+  @Benchmark
+  public List<Dependency> addAll() {
+    managedDependencies.addAll(bom);
+    return managedDependencies;
+  }
+}
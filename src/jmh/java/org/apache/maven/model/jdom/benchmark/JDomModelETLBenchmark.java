@@ -0,0 +1,75 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.etl.JDomModelETL;
+import org.apache.maven.model.jdom.etl.JDomModelETLFactory;
+import org.apache.maven.model.jdom.etl.ModelETLRequest;
+import org.jdom2.JDOMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Benchmarks {@link JDomModelETL#extract(File)} and {@link JDomModelETL#load(File)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JDomModelETLBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int dependencies;
+
+  private final ModelETLRequest request = new ModelETLRequest();
+
+  private File pomFile;
+  private File targetFile;
+  private JDomModelETL extracted;
+
+  @Setup
+  public void setUp() throws IOException, JDOMException {
+    pomFile = PomCorpus.writeTempFile(PomCorpus.withDependencies(dependencies));
+    targetFile = PomCorpus.writeTempFile("");
+    extracted = new JDomModelETLFactory().newInstance(request);
+    extracted.extract(pomFile);
+  }
+
+  @Benchmark
+  public JDomModelETL extract() throws IOException, JDOMException {
+    JDomModelETL modelETL = new JDomModelETLFactory().newInstance(request);
+    modelETL.extract(pomFile);
+    return modelETL;
+  }
+
+  @Benchmark
+  public void load() throws IOException {
+    extracted.load(targetFile);
+  }
+}
@@ -0,0 +1,76 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.util.JDomUtils;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEPENDENCIES;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEPENDENCY;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PROPERTIES;
+
+/**
+ * Benchmarks {@link JDomUtils#insertNewElement(String, Element)}. Each operation inserts a new element and removes it
+ * again, so that the document does not grow during the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JDomUtilsBenchmark {
+
+  @Param({"10", "1000", "10000"})
+  public int dependencies;
+
+  private Element project;
+  private Element dependenciesElement;
+
+  @Setup
+  public void setUp() throws IOException, JDOMException {
+    project = PomCorpus.parse(PomCorpus.withDependencies(dependencies)).getRootElement();
+    dependenciesElement = project.getChild(POM_ELEMENT_DEPENDENCIES, project.getNamespace());
+  }
+
+  @Benchmark
+  public Element insertNewElementOrdered() {
+    // The position of a new project child is calculated from the configured element order.
+    Element element = JDomUtils.insertNewElement(POM_ELEMENT_PROPERTIES, project);
+    JDomUtils.removeChildElement(project, element);
+    return element;
+  }
+
+  @Benchmark
+  public Element insertNewElementAppended() {
+    Element element = JDomUtils.insertNewElement(POM_ELEMENT_DEPENDENCY, dependenciesElement);
+    JDomUtils.removeChildElement(dependenciesElement, element);
+    return element;
+  }
+}
@@ -0,0 +1,138 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+
+/**
+ * Generates the POM files the benchmarks work on.
+ */
+final class PomCorpus {
+
+  private PomCorpus() {
+    // noop
+  }
+
+  /**
+   * Creates a POM with the given number of dependencies, half of them in {@code dependencyManagement}.
+   *
+   * @param dependencies the number of dependencies.
+   * @return the POM source.
+   */
+  static String withDependencies(int dependencies) {
+    StringBuilder pom = new StringBuilder(200 * dependencies);
+    appendHeader(pom);
+    pom.append("  <properties>\n");
+    for (int i = 0; i < dependencies; i++) {
+      pom.append("    <artifact-").append(i).append(".version>1.").append(i).append("</artifact-")
+              .append(i).append(".version>\n");
+    }
+    pom.append("  </properties>\n\n");
+    pom.append("  <dependencyManagement>\n    <dependencies>\n");
+    for (int i = 0; i < dependencies / 2; i++) {
+      appendDependency(pom, "      ", i);
+    }
+    pom.append("    </dependencies>\n  </dependencyManagement>\n\n");
+    pom.append("  <dependencies>\n");
+    for (int i = dependencies / 2; i < dependencies; i++) {
+      appendDependency(pom, "    ", i);
+    }
+    pom.append("  </dependencies>\n");
+    return pom.append("</project>\n").toString();
+  }
+
+  /**
+   * Creates a POM with the given number of profiles. Every profile contains a plugin configuration that is nested
+   * {@code depth} levels deep, some empty elements and runs of blank lines.
+   *
+   * @param profiles the number of profiles.
+   * @param depth    the nesting depth of the plugin configuration.
+   * @return the POM source.
+   */
+  static String withProfiles(int profiles, int depth) {
+    StringBuilder pom = new StringBuilder();
+    appendHeader(pom);
+    pom.append("  <profiles>\n");
+    for (int i = 0; i < profiles; i++) {
+      pom.append("\n\n\n    <!-- profile ").append(i).append(" -->\n");
+      pom.append("    <profile>\n      <id>profile-").append(i).append("</id>\n");
+      if (i % 3 == 0) {
+        // empty profile
+        pom.append("      <properties>\n\n\n      </properties>\n");
+      } else {
+        pom.append("      <dependencies/>\n");
+        pom.append("      <build>\n        <plugins>\n          <plugin>\n");
+        pom.append("            <artifactId>plugin-").append(i).append("</artifactId>\n");
+        pom.append("            <configuration>\n");
+        String indent = "              ";
+        for (int d = 0; d < depth; d++) {
+          pom.append(indent).append("<level").append(d).append(">\n\n\n");
+          indent += "  ";
+        }
+        pom.append(indent).append("<value>").append(i).append("</value>\n");
+        for (int d = depth - 1; d >= 0; d--) {
+          indent = indent.substring(2);
+          pom.append(indent).append("</level").append(d).append(">\n");
+        }
+        pom.append("            </configuration>\n");
+        pom.append("          </plugin>\n        </plugins>\n      </build>\n");
+      }
+      pom.append("    </profile>\n");
+    }
+    pom.append("  </profiles>\n");
+    return pom.append("</project>\n").toString();
+  }
+
+  static File writeTempFile(String pom) throws IOException {
+    File file = File.createTempFile("jmh-pom-", ".xml");
+    file.deleteOnExit();
+    FileUtils.fileWrite(file, "UTF-8", pom);
+    return file;
+  }
+
+  static Document parse(String pom) throws IOException, JDOMException {
+    return new SAXBuilder().build(new StringReader(pom));
+  }
+
+  private static void appendHeader(StringBuilder pom) {
+    pom.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+    pom.append("<!-- generated benchmark POM -->\n");
+    pom.append("<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n");
+    pom.append("  <modelVersion>4.0.0</modelVersion>\n\n");
+    pom.append("  <groupId>com.coremedia.benchmark</groupId>\n");
+    pom.append("  <artifactId>benchmark</artifactId>\n");
+    pom.append("  <version>1.0-SNAPSHOT</version>\n\n");
+  }
+
+  private static void appendDependency(StringBuilder pom, String indent, int i) {
+    pom.append(indent).append("<dependency>\n");
+    pom.append(indent).append("  <groupId>com.coremedia.benchmark</groupId>\n");
+    pom.append(indent).append("  <artifactId>artifact-").append(i).append("</artifactId>\n");
+    pom.append(indent).append("  <version>${artifact-").append(i).append(".version}</version>\n");
+    if (i % 4 == 0) {
+      pom.append(indent).append("  <scope>test</scope>\n");
+    }
+    pom.append(indent).append("</dependency>\n");
+  }
+}
@@ -0,0 +1,72 @@
+package org.apache.maven.model.jdom.benchmark;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.etl.JDomModelETL;
+import org.apache.maven.model.jdom.etl.JDomModelETLFactory;
+import org.apache.maven.model.jdom.etl.ModelETLRequest;
+import org.apache.maven.model.jdom.etl.PomHeader;
+import org.jdom2.JDOMException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compares {@link PomHeader#peek(File)} with a full {@link JDomModelETL#extract(File)} for reading the coordinates.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PomHeaderBenchmark {
+
+  @Param({"10", "1000"})
+  public int dependencies;
+
+  private final ModelETLRequest request = new ModelETLRequest();
+
+  private File pomFile;
+
+  @Setup
+  public void setUp() throws IOException {
+    pomFile = PomCorpus.writeTempFile(PomCorpus.withDependencies(dependencies));
+  }
+
+  @Benchmark
+  public String peek() throws IOException, XMLStreamException {
+    return PomHeader.peek(pomFile).getVersion();
+  }
+
+  @Benchmark
+  public String extract() throws IOException, JDOMException {
+    JDomModelETL modelETL = new JDomModelETLFactory().newInstance(request);
+    modelETL.extract(pomFile);
+    return modelETL.getModel().getVersion();
+  }
+}
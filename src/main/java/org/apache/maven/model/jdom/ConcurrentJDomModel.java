@@ -0,0 +1,204 @@
+package org.apache.maven.model.jdom;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A thread-safe facade over a {@link JDomModel}, which allows many threads to read the same model while others modify
+ * it from time to time.
+ * <p>
+ * Reads are performed under a shared lock and can run concurrently, modifications are performed under an exclusive
+ * lock. Reading a {@link JDomModel} does not modify the JDOM tree behind it, and the caches that are filled while
+ * reading (see {@link org.apache.maven.model.jdom.util.JDomUtils#indexChildElements(org.jdom2.Document)})
+ * synchronize on their own.
+ * <p>
+ * The model and the {@link JDomBacked} objects taken from it are live views of the JDOM tree, so they must not escape
+ * from the functions passed to {@link #read(Function)} and {@link #write(Function)}. The getters of this class return
+ * detached snapshots instead.
+ */
+public class ConcurrentJDomModel {
+
+  private final JDomModel model;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  public ConcurrentJDomModel(JDomModel model) {
+    this.model = model;
+  }
+
+  /**
+   * Reads from the model under the shared lock.
+   *
+   * @param reader the function that reads from the model. It must not modify the model.
+   * @param <R>    the type of the result.
+   * @return the result of the function, which must not be backed by the JDOM tree.
+   */
+  public <R> R read(Function<? super JDomModel, ? extends R> reader) {
+    Lock readLock = lock.readLock();
+    readLock.lock();
+    try {
+      return reader.apply(model);
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Modifies the model under the exclusive lock.
+   *
+   * @param writer the function that modifies the model.
+   * @param <R>    the type of the result.
+   * @return the result of the function, which must not be backed by the JDOM tree.
+   */
+  public <R> R write(Function<? super JDomModel, ? extends R> writer) {
+    Lock writeLock = lock.writeLock();
+    writeLock.lock();
+    try {
+      return writer.apply(model);
+    } finally {
+      writeLock.unlock();
+    }
+  }
+
+  /**
+   * Modifies the model under the exclusive lock.
+   *
+   * @param writer the function that modifies the model.
+   */
+  public void update(Consumer<? super JDomModel> writer) {
+    write(model -> {
+      writer.accept(model);
+      return null;
+    });
+  }
+
+  public String getGroupId() {
+    return read(JDomModel::getGroupId);
+  }
+
+  public String getArtifactId() {
+    return read(JDomModel::getArtifactId);
+  }
+
+  public String getVersion() {
+    return read(JDomModel::getVersion);
+  }
+
+  public String getPackaging() {
+    return read(JDomModel::getPackaging);
+  }
+
+  /**
+   * @return detached copies of the dependencies (without exclusions).
+   */
+  public List<Dependency> getDependencies() {
+    return read(model -> copyDependencies(model.getDependencies()));
+  }
+
+  /**
+   * @return detached copies of the managed dependencies (without exclusions).
+   */
+  public List<Dependency> getManagedDependencies() {
+    return read(model -> model.getDependencyManagement() == null ? new ArrayList<>()
+            : copyDependencies(model.getDependencyManagement().getDependencies()));
+  }
+
+  /**
+   * @return detached copies of the build plugins (coordinates, extensions and inherited flags only).
+   */
+  public List<Plugin> getBuildPlugins() {
+    return read(model -> {
+      Build build = model.getBuild();
+      return build == null ? new ArrayList<>() : copyPlugins(build.getPlugins());
+    });
+  }
+
+  /**
+   * @return detached copies of the managed build plugins (coordinates, extensions and inherited flags only).
+   */
+  public List<Plugin> getManagedBuildPlugins() {
+    return read(model -> {
+      Build build = model.getBuild();
+      return build == null || build.getPluginManagement() == null ? new ArrayList<>()
+              : copyPlugins(build.getPluginManagement().getPlugins());
+    });
+  }
+
+  /**
+   * @return a detached copy of the properties.
+   */
+  public Properties getProperties() {
+    return read(model -> {
+      Properties copy = new Properties();
+      Properties properties = model.getProperties();
+      if (properties != null) {
+        for (Map.Entry<Object, Object> property : properties.entrySet()) {
+          copy.put(property.getKey(), property.getValue());
+        }
+      }
+      return copy;
+    });
+  }
+
+  public boolean isModified() {
+    return read(JDomModel::isModified);
+  }
+
+  private static List<Dependency> copyDependencies(List<Dependency> dependencies) {
+    List<Dependency> copies = new ArrayList<>(dependencies.size());
+    for (Dependency dependency : dependencies) {
+      Dependency copy = new Dependency();
+      copy.setGroupId(dependency.getGroupId());
+      copy.setArtifactId(dependency.getArtifactId());
+      copy.setVersion(dependency.getVersion());
+      copy.setType(dependency.getType());
+      copy.setClassifier(dependency.getClassifier());
+      copy.setScope(dependency.getScope());
+      copy.setSystemPath(dependency.getSystemPath());
+      copy.setOptional(dependency.getOptional());
+      copies.add(copy);
+    }
+    return copies;
+  }
+
+  private static List<Plugin> copyPlugins(List<Plugin> plugins) {
+    List<Plugin> copies = new ArrayList<>(plugins.size());
+    for (Plugin plugin : plugins) {
+      Plugin copy = new Plugin();
+      copy.setGroupId(plugin.getGroupId());
+      copy.setArtifactId(plugin.getArtifactId());
+      copy.setVersion(plugin.getVersion());
+      copy.setExtensions(plugin.getExtensions());
+      copy.setInherited(plugin.getInherited());
+      copies.add(copy);
+    }
+    return copies;
+  }
+}
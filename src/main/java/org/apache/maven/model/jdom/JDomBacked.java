@@ -16,6 +16,8 @@ package org.apache.maven.model.jdom;
  * limitations under the License.
  */
 
+import org.apache.maven.model.jdom.util.JDomUtils;
+import org.jdom2.Document;
 import org.jdom2.Element;
 
 /**
@@ -31,4 +33,16 @@ public interface JDomBacked {
    * @return the backing JDOM element of the model object.
    */
   Element getJDomElement();
+
+  /**
+   * Checks whether the document that contains the backing JDOM element was modified since it was extracted.
+   *
+   * @return {@code true} if the document was modified, {@code false} if not or if the backing JDOM element is not
+   * attached to a document.
+   * @see JDomUtils#markModified(org.jdom2.Content)
+   */
+  default boolean isModified() {
+    Document document = getJDomElement().getDocument();
+    return document != null && JDomUtils.isModified(document);
+  }
 }
@@ -43,6 +43,7 @@ import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_SCRIPT_SOURCE
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_SOURCE_DIRECTORY;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_TEST_OUTPUT_DIRECTORY;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_TEST_SOURCE_DIRECTORY;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
@@ -56,6 +57,10 @@ public class JDomBuild extends Build implements JDomBacked {
 
   private final Element jdomElement;
 
+  private final JDomWrapperCache<JDomPluginManagement> pluginManagement = new JDomWrapperCache<>();
+
+  private final JDomWrapperCache<JDomPlugins> plugins = new JDomWrapperCache<>();
+
   public JDomBuild(Element jdomElement) {
     this.jdomElement = jdomElement;
   }
@@ -82,7 +87,7 @@ public class JDomBuild extends Build implements JDomBacked {
 
   @Override
   public List<Extension> getExtensions() {
-    Element extensionsElm = jdomElement.getChild(POM_ELEMENT_EXTENSIONS, jdomElement.getNamespace());
+    Element extensionsElm = getChildElement(POM_ELEMENT_EXTENSIONS, jdomElement);
     if (extensionsElm == null) {
       return Collections.emptyList();
     } else {
@@ -132,12 +137,7 @@ public class JDomBuild extends Build implements JDomBacked {
 
   @Override
   public PluginManagement getPluginManagement() {
-    Element pluginManagementElm = jdomElement.getChild(POM_ELEMENT_PLUGIN_MANAGEMENT, jdomElement.getNamespace());
-    if (pluginManagementElm == null) {
-      return null;
-    } else {
-      return new JDomPluginManagement(pluginManagementElm);
-    }
+    return pluginManagement.get(getChildElement(POM_ELEMENT_PLUGIN_MANAGEMENT, jdomElement), JDomPluginManagement::new);
   }
 
   @Override
@@ -147,11 +147,11 @@ public class JDomBuild extends Build implements JDomBacked {
 
   @Override
   public List<Plugin> getPlugins() {
-    Element pluginsElm = jdomElement.getChild(POM_ELEMENT_PLUGINS, jdomElement.getNamespace());
-    if (pluginsElm == null) {
+    JDomPlugins jdomPlugins = plugins.get(getChildElement(POM_ELEMENT_PLUGINS, jdomElement), JDomPlugins::new);
+    if (jdomPlugins == null) {
       return Collections.emptyList();
     } else {
-      return new JDomPlugins(pluginsElm);
+      return jdomPlugins;
     }
   }
 
@@ -162,7 +162,7 @@ public class JDomBuild extends Build implements JDomBacked {
     } else {
       List<Plugin> jdomPlugins = getPlugins();
       if (!(jdomPlugins instanceof JDomPlugins)) {
-        jdomPlugins = new JDomPlugins(insertNewElement(POM_ELEMENT_PLUGINS, jdomElement));
+        jdomPlugins = this.plugins.get(insertNewElement(POM_ELEMENT_PLUGINS, jdomElement), JDomPlugins::new);
       }
       jdomPlugins.addAll(plugins);
     }
@@ -230,12 +230,21 @@ public class JDomBuild extends Build implements JDomBacked {
 
   @Override
   public void flushPluginMap() {
-    throw new UnsupportedOperationException();
+    // The map of the plugins is a live view.
   }
 
+  /**
+   * Returns a live, read-only view of the plugins by key (see {@link JDomPlugins#getPluginsAsMap()}). If there is no
+   * {@code plugins} element, an empty map is returned, which does not reflect plugins that are added later.
+   *
+   * @return the plugins by key.
+   */
   @Override
   public Map<String, Plugin> getPluginsAsMap() {
-    throw new UnsupportedOperationException();
+    List<Plugin> jdomPlugins = getPlugins();
+    return jdomPlugins instanceof JDomPlugins
+            ? ((JDomPlugins) jdomPlugins).getPluginsAsMap()
+            : Collections.emptyMap();
   }
 
   /** {@inheritDoc} */
@@ -21,57 +21,161 @@ import org.codehaus.plexus.util.xml.pull.XmlSerializer;
 import org.jdom2.Content;
 import org.jdom2.Element;
 import org.jdom2.Text;
-import org.jdom2.filter.ElementFilter;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.markModified;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteValue;
 
 /**
  * JDOM implementation of POM plugins {@code configuration} element.
+ * <p>
+ * The children of a configuration element are wrapped on first access only, so wrapping a large configuration that is
+ * never read is a constant time operation. Each node caches its children and an index of them by name, which is
+ * updated by {@link #addChild(Xpp3Dom)} and {@link #setConfigurationProperty(String, String)}. Modifications made by
+ * other code are detected by a changed content size or by a returned child element that was moved, renamed or
+ * detached, in which case the children are wrapped again. Like in the child element index of {@code JDomUtils}, a
+ * child element that is added from outside without changing the content size may not be found by name until then.
  *
  * @author Marc Rohlfs, CoreMedia AG
  */
 public class JDomConfiguration extends Xpp3Dom implements JDomBacked {
 
+  private static final JDomConfiguration[] EMPTY_CHILDREN = new JDomConfiguration[0];
+
   private final Element jdomElement;
 
+  /**
+   * The child elements in document order or {@code null} if they have not been wrapped yet.
+   */
   private List<JDomConfiguration> children;
 
+  /**
+   * The child elements by name, each list in document order.
+   */
+  private Map<String, List<JDomConfiguration>> childrenByName;
+
+  /**
+   * The content size of the configuration element when the children were last updated.
+   */
+  private int contentSize;
+
   public JDomConfiguration(Element jdomElement) {
     super(jdomElement.getName());
     this.jdomElement = jdomElement;
-    this.children = getChildren(jdomElement);
   }
 
-  private static List<JDomConfiguration> getChildren(Element jdomElement) {
-    List<Element> childElements = jdomElement.getContent(new ElementFilter());
-    List<JDomConfiguration> children = new ArrayList<>(childElements.size());
-    for (Element childElement : childElements) {
-      children.add(new JDomConfiguration(childElement));
+  private List<JDomConfiguration> children() {
+    if (children == null || contentSize != jdomElement.getContentSize()) {
+      wrapChildren();
     }
     return children;
   }
 
+  private List<JDomConfiguration> children(String name) {
+    children();
+    List<JDomConfiguration> namedChildren = childrenByName.get(name);
+    if (namedChildren == null) {
+      return Collections.emptyList();
+    }
+    if (!isAttached(namedChildren)) {
+      wrapChildren();
+      namedChildren = childrenByName.getOrDefault(name, Collections.emptyList());
+    }
+    return namedChildren;
+  }
+
+  private List<JDomConfiguration> validChildren() {
+    if (!isAttached(children())) {
+      wrapChildren();
+    }
+    return children;
+  }
+
+  /**
+   * Checks whether the given children have neither been moved nor renamed from outside.
+   */
+  private boolean isAttached(List<JDomConfiguration> children) {
+    for (JDomConfiguration child : children) {
+      if (child.jdomElement.getParent() != jdomElement || !child.getName().equals(child.jdomElement.getName())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private void wrapChildren() {
+    List<Content> contents = jdomElement.getContent();
+    children = new ArrayList<>();
+    childrenByName = new HashMap<>();
+    for (Content content : contents) {
+      if (content instanceof Element) {
+        JDomConfiguration child = new JDomConfiguration((Element) content);
+        children.add(child);
+        childrenByName.computeIfAbsent(child.getName(), name -> new ArrayList<>(1)).add(child);
+      }
+    }
+    contentSize = contents.size();
+  }
+
+  /**
+   * Updates the cached children after a child element has been inserted. The cached children must have been valid
+   * before.
+   */
+  private void childAdded(Element childElement) {
+    if (children == null) {
+      return;
+    }
+
+    int position = 0;
+    for (Content content : jdomElement.getContent()) {
+      if (content == childElement) {
+        break;
+      } else if (content instanceof Element) {
+        position++;
+      }
+    }
+    JDomConfiguration child = new JDomConfiguration(childElement);
+    children.add(position, child);
+
+    List<JDomConfiguration> namedChildren = childrenByName.computeIfAbsent(child.getName(), name -> new ArrayList<>(1));
+    int namedPosition = namedChildren.size();
+    while (namedPosition > 0 && children.indexOf(namedChildren.get(namedPosition - 1)) > position) {
+      namedPosition--;
+    }
+    namedChildren.add(namedPosition, child);
+
+    contentSize = jdomElement.getContentSize();
+  }
+
   @Override
   public void addChild(Xpp3Dom xpp3Dom) {
-    recAddChild(jdomElement, xpp3Dom);
-    children = getChildren(jdomElement);
+    if (children != null && contentSize != jdomElement.getContentSize()) {
+      // The children have been modified from outside and are wrapped again on next access.
+      children = null;
+    }
+    childAdded(recAddChild(jdomElement, xpp3Dom));
   }
 
-  private void recAddChild(Element parent, Xpp3Dom child) {
+  private Element recAddChild(Element parent, Xpp3Dom child) {
     Element targetChild = insertNewElement(child.getName(), parent);
-    targetChild.setContent(new Text(child.getValue()));
+    if (child.getChildCount() == 0) {
+      targetChild.setContent(new Text(child.getValue() == null ? "" : child.getValue()));
+    }
     for (String attrName : child.getAttributeNames()) {
       targetChild.setAttribute(attrName, child.getAttribute(attrName));
     }
     for (Xpp3Dom grandChild : child.getChildren()) {
       recAddChild(targetChild, grandChild);
     }
+    return targetChild;
   }
 
   @Override
@@ -108,35 +212,31 @@ public class JDomConfiguration extends Xpp3Dom implements JDomBacked {
 
   @Override
   public Xpp3Dom getChild(String name) {
-    return children.stream().filter(c -> name.equals(c.getName())).findFirst().orElse(null);
+    List<JDomConfiguration> namedChildren = children(name);
+    return namedChildren.isEmpty() ? null : namedChildren.get(0);
   }
 
   public void setConfigurationProperty(String propertyName, String value) {
-    Element propertyElement = null;
-    for (Element element : jdomElement.getContent(new ElementFilter())) {
-      if (propertyName.equals(element.getName())) {
-        propertyElement = element;
-        break;
-      }
-    }
-    if (propertyElement == null) {
+    JDomConfiguration property = (JDomConfiguration) getChild(propertyName);
+    Element propertyElement;
+    if (property == null) {
       propertyElement = insertNewElement(propertyName, jdomElement);
-      children.add(new JDomConfiguration(propertyElement));
+      childAdded(propertyElement);
+    } else {
+      propertyElement = property.getJDomElement();
     }
     propertyElement.setText(value);
+    markModified(propertyElement);
   }
 
   @Override
   public Xpp3Dom[] getChildren() {
-    return children.toArray(new JDomConfiguration[]{});
+    return validChildren().toArray(EMPTY_CHILDREN);
   }
 
   @Override
   public Xpp3Dom[] getChildren(String name) {
-    return children.stream()
-            .filter(c -> name.equals(c.getName()))
-            .collect(Collectors.toList())
-            .toArray(new Xpp3Dom[]{});
+    return children(name).toArray(EMPTY_CHILDREN);
   }
 
   @Override
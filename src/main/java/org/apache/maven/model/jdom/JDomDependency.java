@@ -51,6 +51,8 @@ public class JDomDependency extends Dependency implements JDomBacked {
 
   private final Element jdomElement;
 
+  private transient JDomDependencies owner;
+
   JDomDependency(Element jdomElement) {
     this.jdomElement = jdomElement;
 
@@ -92,8 +94,10 @@ public class JDomDependency extends Dependency implements JDomBacked {
 
   @Override
   public void setArtifactId(String artifactId) {
+    String oldKey = getKey();
     rewriteElement(POM_ELEMENT_ARTIFACT_ID, artifactId, jdomElement);
     super.setArtifactId(trim(artifactId));
+    keyChanged(oldKey);
   }
 
   @Override
@@ -115,8 +119,10 @@ public class JDomDependency extends Dependency implements JDomBacked {
 
   @Override
   public void setGroupId(String groupId) {
+    String oldKey = getKey();
     rewriteElement(POM_ELEMENT_GROUP_ID, groupId, jdomElement);
     super.setGroupId(trim(groupId));
+    keyChanged(oldKey);
   }
 
   @Override
@@ -144,8 +150,10 @@ public class JDomDependency extends Dependency implements JDomBacked {
 
   @Override
   public void setType(String type) {
+    String oldKey = getKey();
     rewriteElement(POM_ELEMENT_TYPE, type, jdomElement);
     super.setType(defaultString(trim(type), "jar"));
+    keyChanged(oldKey);
   }
 
   @Override
@@ -159,6 +167,20 @@ public class JDomDependency extends Dependency implements JDomBacked {
     throw new UnsupportedOperationException();
   }
 
+  void setOwner(JDomDependencies owner) {
+    this.owner = owner;
+  }
+
+  private String getKey() {
+    return JDomDependencies.key(getGroupId(), getArtifactId(), getType());
+  }
+
+  private void keyChanged(String oldKey) {
+    if (owner != null) {
+      owner.keyChanged(this, oldKey);
+    }
+  }
+
   @Override
   public Element getJDomElement() {
     return jdomElement;
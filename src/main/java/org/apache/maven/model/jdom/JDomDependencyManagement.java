@@ -32,6 +32,8 @@ import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 
 /**
  * JDom implementation of poms DEPENDENCYMANAGEMENT element
+ * <p>
+ * The dependencies are wrapped on first access.
  *
  * @author Robert Scholte (for <a href="https://github.com/apache/maven-release/">Maven Release projct</a>, version 3.0)
  */
@@ -41,15 +43,24 @@ public class JDomDependencyManagement extends DependencyManagement implements JD
 
   private final JDomBacked parent;
 
+  private JDomDependencies dependencies;
+
   public JDomDependencyManagement(Element jdomElement, JDomBacked parent) {
     this.jdomElement = jdomElement;
     this.parent = parent;
+  }
 
-    Element dependenciesElement = getChildElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
-    if (dependenciesElement == null) {
-      dependenciesElement = newDetachedElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+  @Override
+  public synchronized List<Dependency> getDependencies() {
+    if (dependencies == null) {
+      Element dependenciesElement = getChildElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+      if (dependenciesElement == null) {
+        dependenciesElement = newDetachedElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+      }
+      dependencies = new JDomDependencies(dependenciesElement, this);
+      super.setDependencies(dependencies);
     }
-    super.setDependencies(new JDomDependencies(dependenciesElement, this));
+    return dependencies;
   }
 
   @Override
@@ -66,6 +77,7 @@ public class JDomDependencyManagement extends DependencyManagement implements JD
   /** {@inheritDoc} */
   @Override
   public DependencyManagement clone() {
+    getDependencies();
     return super.clone();
   }
 
@@ -21,26 +21,58 @@ import org.jdom2.Element;
 import org.jdom2.filter.ElementFilter;
 import org.jdom2.filter.Filter;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.apache.maven.model.PluginExecution.DEFAULT_EXECUTION_ID;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_EXECUTION;
+import static org.apache.maven.model.jdom.util.JDomUtils.addElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.getElementIndex;
+import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.removeChildAndItsCommentFromContent;
+import static org.apache.maven.model.jdom.util.JDomUtils.removeChildElement;
+import static org.codehaus.plexus.util.StringUtils.defaultString;
 
 /**
  * JDOM implementation of POMs {@code executions} element.
+ * <p>
+ * The executions are indexed by {@link PluginExecution#getId() id}, which makes {@link #find(String)},
+ * {@link #contains(String)}, {@link #removeById(String)}, {@link #replace(PluginExecution)} and the lookups in
+ * {@link #getExecutionsAsMap()} constant time operations. The index is updated when the id of a contained execution is
+ * changed. Adding an execution with an id that is already used throws an {@link IllegalArgumentException}, because
+ * Maven rejects plugins with duplicate execution ids.
  */
 public class JDomExecutions extends ArrayList<PluginExecution> implements JDomBacked {
 
   private final Element jdomElement;
   private final JDomBacked parent;
 
+  /**
+   * The executions by id. Of multiple executions with the same id, the first one is indexed.
+   */
+  private final Map<String, JDomPluginExecution> index = new HashMap<>();
+
+  private final Map<String, PluginExecution> executionsAsMap = new ExecutionsAsMap();
+
   public JDomExecutions(Element jdomElement, JDomBacked parent) {
     super(transformExecutionElementsToJDomExecutionList(jdomElement));
     this.jdomElement = jdomElement;
     this.parent = parent;
+
+    for (PluginExecution execution : this) {
+      JDomPluginExecution jdomExecution = (JDomPluginExecution) execution;
+      jdomExecution.setOwner(this);
+      index.putIfAbsent(jdomExecution.getId(), jdomExecution);
+    }
   }
 
   private static List<PluginExecution> transformExecutionElementsToJDomExecutionList(Element jdomElement) {
@@ -49,57 +81,240 @@ public class JDomExecutions extends ArrayList<PluginExecution> implements JDomBa
   }
 
   @Override
-  public boolean add(PluginExecution pluginExecution) {
-    throw new UnsupportedOperationException("To be implemented if needed.");
+  public boolean add(PluginExecution execution) {
+    add(size(), execution);
+    return true;
   }
 
   @Override
-  public boolean remove(Object execution) {
-    throw new UnsupportedOperationException("How would executions be comparable?");
+  public void add(int index, PluginExecution execution) {
+    if (index > size() || index < 0) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+    }
+    checkId(execution.getId(), null);
+
+    int elementIndex = index;
+    if (index > 0) {
+      Element previousElement = ((JDomPluginExecution) get(index - 1)).getJDomElement();
+      elementIndex = 1 + getElementIndex(previousElement, jdomElement);
+    }
+
+    attachJDomElement();
+    insertExecution(index, elementIndex, execution);
   }
 
+  /**
+   * Removes the execution with the same id as the given one.
+   *
+   * @param execution the execution to be removed.
+   * @return {@code true} if an execution was removed.
+   */
   @Override
-  public boolean addAll(Collection<? extends PluginExecution> executions) {
-    throw new UnsupportedOperationException("To be implemented if needed.");
+  public boolean remove(Object execution) {
+    return removeById(((PluginExecution) execution).getId()) != null;
   }
 
   @Override
-  public boolean addAll(int index, Collection<? extends PluginExecution> executions) {
-    throw new UnsupportedOperationException("To be implemented if needed.");
+  public PluginExecution remove(int index) {
+    JDomPluginExecution execution = (JDomPluginExecution) get(index);
+    removeExecution(execution);
+    return execution;
+  }
+
+  /**
+   * Returns the execution with the given id.
+   *
+   * @param id the id, {@code null} for the default id {@value PluginExecution#DEFAULT_EXECUTION_ID}.
+   * @return the execution or {@code null} if there is none.
+   */
+  public PluginExecution find(String id) {
+    return index.get(defaultString(id, DEFAULT_EXECUTION_ID));
+  }
+
+  /**
+   * Checks whether there is an execution with the given id.
+   *
+   * @param id the id, {@code null} for the default id {@value PluginExecution#DEFAULT_EXECUTION_ID}.
+   * @return {@code true} if there is such an execution.
+   * @see #find(String)
+   */
+  public boolean contains(String id) {
+    return find(id) != null;
   }
 
+  /**
+   * Removes the execution with the given id.
+   *
+   * @param id the id, {@code null} for the default id {@value PluginExecution#DEFAULT_EXECUTION_ID}.
+   * @return the removed execution or {@code null} if there is none.
+   * @see #find(String)
+   */
+  public PluginExecution removeById(String id) {
+    JDomPluginExecution execution = (JDomPluginExecution) find(id);
+    if (execution != null) {
+      removeExecution(execution);
+    }
+    return execution;
+  }
+
+  /**
+   * Replaces the execution with the same id as the given one, keeping its position.
+   *
+   * @param execution the new execution.
+   * @return the replaced execution or {@code null} if there is none, in which case nothing is changed.
+   */
+  public PluginExecution replace(PluginExecution execution) {
+    PluginExecution oldExecution = find(execution.getId());
+    return oldExecution == null ? null : set(identityIndexOf(oldExecution), execution);
+  }
+
+  /**
+   * Replaces the execution at the given position. The comments before the replaced {@code execution} element are
+   * kept.
+   *
+   * @param index     the position.
+   * @param execution the new execution, whose id must not be used by another execution.
+   * @return the replaced execution.
+   */
   @Override
-  public boolean removeAll(Collection<?> executions) {
-    throw new UnsupportedOperationException("How would executions be comparable?");
+  public PluginExecution set(int index, PluginExecution execution) {
+    JDomPluginExecution oldExecution = (JDomPluginExecution) get(index);
+    checkId(execution.getId(), oldExecution);
+
+    // The new element is inserted after the old one first, so that the old one's position can be reused.
+    int elementIndex = 1 + getElementIndex(oldExecution.getJDomElement(), jdomElement);
+    insertExecution(index + 1, elementIndex, execution);
+
+    removeChildElement(jdomElement, oldExecution.getJDomElement());
+    super.remove(index);
+    oldExecution.setOwner(null);
+    reindex(oldExecution.getId());
+    return oldExecution;
+  }
+
+  /**
+   * Returns a live, read-only view of the executions by {@link PluginExecution#getId() id}, in the order of this list.
+   * Of multiple executions with the same id, the first one is contained.
+   *
+   * @return the executions by id.
+   */
+  public Map<String, PluginExecution> getExecutionsAsMap() {
+    return executionsAsMap;
+  }
+
+  /**
+   * Updates the index after the id of a contained execution has been changed.
+   *
+   * @param execution the changed execution.
+   * @param oldId     the id of the execution before the change.
+   */
+  void idChanged(JDomPluginExecution execution, String oldId) {
+    String newId = execution.getId();
+    if (!newId.equals(oldId)) {
+      reindex(oldId);
+      reindex(newId);
+    }
+  }
+
+  private void checkId(String id, JDomPluginExecution replacedExecution) {
+    PluginExecution existingExecution = find(id);
+    if (existingExecution != null && existingExecution != replacedExecution) {
+      throw new IllegalArgumentException("Duplicate execution id: " + defaultString(id, DEFAULT_EXECUTION_ID));
+    }
+  }
+
+  private void insertExecution(int listIndex, int elementIndex, PluginExecution execution) {
+    JDomPluginExecution jdomExecution;
+    if (execution instanceof JDomPluginExecution) {
+      Element newElement = ((JDomPluginExecution) execution).getJDomElement().clone();
+      addElement(newElement, jdomElement, elementIndex);
+      jdomExecution = new JDomPluginExecution(newElement);
+    } else {
+      Element newElement = insertNewElement(POM_ELEMENT_EXECUTION, jdomElement, elementIndex);
+      jdomExecution = new JDomPluginExecution(newElement, execution);
+    }
+
+    jdomExecution.setOwner(this);
+    index.putIfAbsent(jdomExecution.getId(), jdomExecution);
+    super.add(listIndex, jdomExecution);
+  }
+
+  private void removeExecution(JDomPluginExecution execution) {
+    removeChildAndItsCommentFromContent(jdomElement, execution.getJDomElement());
+    super.remove(identityIndexOf(execution));
+    execution.setOwner(null);
+    reindex(execution.getId());
+
+    if (super.isEmpty()) {
+      removeChildAndItsCommentFromContent(parent.getJDomElement(), jdomElement);
+    }
+  }
+
+  private void attachJDomElement() {
+    if (jdomElement.getParent() == null) {
+      addElement(jdomElement, parent.getJDomElement());
+    }
+  }
+
+  /**
+   * Indexes the first execution with the given id, if any.
+   */
+  private void reindex(String id) {
+    index.remove(id);
+    for (PluginExecution execution : this) {
+      if (id.equals(execution.getId())) {
+        index.put(id, (JDomPluginExecution) execution);
+        break;
+      }
+    }
+  }
+
+  private int identityIndexOf(PluginExecution execution) {
+    for (int i = 0; i < size(); i++) {
+      if (get(i) == execution) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   @Override
-  public boolean retainAll(Collection<?> executions) {
-    throw new UnsupportedOperationException();
+  public boolean addAll(Collection<? extends PluginExecution> executions) {
+    return addAll(size(), executions);
   }
 
   @Override
-  public void clear() {
-    throw new UnsupportedOperationException("To be implemented if needed.");
+  public boolean addAll(int index, Collection<? extends PluginExecution> executions) {
+    int i = index;
+    for (PluginExecution execution : executions) {
+      add(i++, execution);
+    }
+    return !executions.isEmpty();
   }
 
   @Override
-  public PluginExecution set(int index, PluginExecution execution) {
-    throw new UnsupportedOperationException();
+  public boolean removeAll(Collection<?> executions) {
+    boolean result = false;
+    for (Object execution : executions) {
+      result |= remove(execution);
+    }
+    return result;
   }
 
   @Override
-  public void add(int index, PluginExecution execution) {
+  public boolean retainAll(Collection<?> executions) {
     throw new UnsupportedOperationException();
   }
 
   @Override
-  public PluginExecution remove(int index) {
-    throw new UnsupportedOperationException();
+  public void clear() {
+    while (size() > 0) {
+      remove(size() - 1);
+    }
   }
 
   @Override
-  public int lastIndexOf(Object dependency) {
+  public int lastIndexOf(Object execution) {
     throw new UnsupportedOperationException();
   }
 
@@ -127,4 +342,41 @@ public class JDomExecutions extends ArrayList<PluginExecution> implements JDomBa
   public Element getJDomElement() {
     return jdomElement;
   }
+
+  private class ExecutionsAsMap extends AbstractMap<String, PluginExecution> {
+
+    @Override
+    public PluginExecution get(Object key) {
+      return index.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return index.size();
+    }
+
+    @Override
+    public Set<Entry<String, PluginExecution>> entrySet() {
+      return new AbstractSet<Entry<String, PluginExecution>>() {
+        @Override
+        public Iterator<Entry<String, PluginExecution>> iterator() {
+          return JDomExecutions.this.stream()
+                  .map(execution -> (Entry<String, PluginExecution>) new SimpleImmutableEntry<>(execution.getId(),
+                          execution))
+                  .filter(entry -> get(entry.getKey()) == entry.getValue())
+                  .iterator();
+        }
+
+        @Override
+        public int size() {
+          return index.size();
+        }
+      };
+    }
+  }
 }
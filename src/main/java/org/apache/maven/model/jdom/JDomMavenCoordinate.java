@@ -28,6 +28,7 @@ import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_VERSION;
 import static org.apache.maven.model.jdom.util.JDomUtils.detectIndentation;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
+import static org.apache.maven.model.jdom.util.JDomUtils.markModified;
 import static org.apache.maven.model.jdom.util.JDomUtils.removeChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteValue;
@@ -86,7 +87,7 @@ public class JDomMavenCoordinate implements JDomBacked, MavenCoordinate {
       versionElement.setText(version);
 
       // Add the new version element after the artifactId.
-      int indexArtifactId = jdomElement.indexOf(jdomElement.getChild(POM_ELEMENT_ARTIFACT_ID, jdomElement.getNamespace()));
+      int indexArtifactId = jdomElement.indexOf(getChildElement(POM_ELEMENT_ARTIFACT_ID, jdomElement));
 
       // Linebreak and indentation are (tried to be copied) from the existing XML structure.
       String indent = detectIndentation(jdomElement);
@@ -95,6 +96,7 @@ public class JDomMavenCoordinate implements JDomBacked, MavenCoordinate {
       }
 
       jdomElement.addContent(++indexArtifactId, versionElement);
+      markModified(jdomElement);
     }
   }
 
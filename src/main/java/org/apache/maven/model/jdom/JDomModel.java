@@ -69,6 +69,8 @@ public class JDomModel extends Model implements JDomBacked, MavenCoordinate {
   private final JDomModelBase modelBase;
   private final JDomMavenCoordinate coordinate;
 
+  private JDomProfiles profiles;
+
   public JDomModel(Document document) {
     this(document.getRootElement());
   }
@@ -346,8 +348,12 @@ public class JDomModel extends Model implements JDomBacked, MavenCoordinate {
   }
 
   @Override
-  public List<Profile> getProfiles() {
-    return new JDomProfiles(jdomElement.getChild(POM_ELEMENT_PROFILES, jdomElement.getNamespace()), this);
+  public synchronized List<Profile> getProfiles() {
+    Element profilesElement = getChildElement(POM_ELEMENT_PROFILES, jdomElement);
+    if (profiles == null || profiles.getJDomElement() != profilesElement) {
+      profiles = new JDomProfiles(profilesElement, this);
+    }
+    return profiles;
   }
 
   @Override
@@ -391,7 +397,7 @@ public class JDomModel extends Model implements JDomBacked, MavenCoordinate {
 
   @Override
   public Scm getScm() {
-    Element elm = jdomElement.getChild(POM_ELEMENT_SCM, jdomElement.getNamespace());
+    Element elm = getChildElement(POM_ELEMENT_SCM, jdomElement);
     if (elm == null) {
       return null;
     } else {
@@ -32,7 +32,6 @@ import org.apache.maven.model.Repository;
 import org.jdom2.Element;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Properties;
 
 import static java.util.Collections.emptyList;
@@ -56,37 +55,34 @@ import static org.apache.maven.model.jdom.util.JDomUtils.newDetachedElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 
 /**
+ * The wrappers of the {@code dependencies} and {@code dependencyManagement} elements are created on first access, so
+ * constructing a model base is a constant time operation.
+ *
  * @author Robert Scholte (for <a href="https://github.com/apache/maven-release/">Maven Release projct</a>, version 3.0)
  */
 public class JDomModelBase extends ModelBase implements JDomBacked {
 
   private final Element jdomElement;
 
-  public JDomModelBase(Element jdomElement) {
-    this.jdomElement = jdomElement;
+  private JDomDependencies dependencies;
 
-    Element dependenciesElement = getChildElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
-    if (dependenciesElement == null) {
-      dependenciesElement = newDetachedElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
-    }
-    super.setDependencies(new JDomDependencies(dependenciesElement, this));
+  private JDomDependencyManagement dependencyManagement;
 
-    Element dependencyManagementElement = getChildElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, jdomElement);
-    if (dependencyManagementElement == null) {
-      dependencyManagementElement = newDetachedElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, jdomElement);
-      insertNewElement(POM_ELEMENT_DEPENDENCIES, dependencyManagementElement);
-    }
-    super.setDependencyManagement(new JDomDependencyManagement(dependencyManagementElement, this));
+  private final JDomWrapperCache<JDomBuild> build = new JDomWrapperCache<>();
+
+  private final JDomWrapperCache<JDomModules> modules = new JDomWrapperCache<>();
+
+  private final JDomWrapperCache<JDomProperties> properties = new JDomWrapperCache<>();
+
+  private final JDomWrapperCache<JDomReporting> reporting = new JDomWrapperCache<>();
+
+  public JDomModelBase(Element jdomElement) {
+    this.jdomElement = jdomElement;
   }
 
   public Build getBuild() {
-    Element elm = jdomElement.getChild(POM_ELEMENT_BUILD, jdomElement.getNamespace());
-    if (elm == null) {
-      return null;
-    } else {
-      // this way build setters change DOM tree immediately
-      return new JDomBuild(elm);
-    }
+    // this way build setters change DOM tree immediately
+    return build.get(getChildElement(POM_ELEMENT_BUILD, jdomElement), JDomBuild::new);
   }
 
   public void setBuild(BuildBase build) {
@@ -106,7 +102,20 @@ public class JDomModelBase extends ModelBase implements JDomBacked {
     throw new UnsupportedOperationException();
   }
 
-  public void setDependencies(List<Dependency> dependencies) {
+  @Override
+  public synchronized List<Dependency> getDependencies() {
+    if (dependencies == null) {
+      Element dependenciesElement = getChildElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+      if (dependenciesElement == null) {
+        dependenciesElement = newDetachedElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+      }
+      dependencies = new JDomDependencies(dependenciesElement, this);
+    }
+    return dependencies;
+  }
+
+  public synchronized void setDependencies(List<Dependency> dependencies) {
+    this.dependencies = null;
     if (dependencies == null) {
       rewriteElement(POM_ELEMENT_DEPENDENCIES, null, jdomElement);
     } else {
@@ -114,26 +123,34 @@ public class JDomModelBase extends ModelBase implements JDomBacked {
     }
   }
 
-  public void setDependencyManagement(DependencyManagement dependencyManagement) {
+  @Override
+  public synchronized DependencyManagement getDependencyManagement() {
     if (dependencyManagement == null) {
-      rewriteElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, null, jdomElement);
-    } else {
-      DependencyManagement jdomDependencyManagement = getDependencyManagement();
-      if (jdomDependencyManagement == null) {
-        Element dependencyManagementRoot = insertNewElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, jdomElement);
-        jdomDependencyManagement = new JDomDependencyManagement(dependencyManagementRoot, this);
+      Element dependencyManagementElement = getChildElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, jdomElement);
+      if (dependencyManagementElement == null) {
+        dependencyManagementElement = newDetachedElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, jdomElement);
+        insertNewElement(POM_ELEMENT_DEPENDENCIES, dependencyManagementElement);
       }
+      dependencyManagement = new JDomDependencyManagement(dependencyManagementElement, this);
+    }
+    return dependencyManagement;
+  }
 
-      jdomDependencyManagement.setDependencies(dependencyManagement.getDependencies());
+  public synchronized void setDependencyManagement(DependencyManagement dependencyManagement) {
+    if (dependencyManagement == null) {
+      this.dependencyManagement = null;
+      rewriteElement(POM_ELEMENT_DEPENDENCY_MANAGEMENT, null, jdomElement);
+    } else {
+      getDependencyManagement().setDependencies(dependencyManagement.getDependencies());
     }
   }
 
   public List<String> getModules() {
-    Element modulesElement = getChildElement(POM_ELEMENT_MODULES, jdomElement);
-    if (modulesElement == null) {
+    JDomModules jDomModules = modules.get(getChildElement(POM_ELEMENT_MODULES, jdomElement), JDomModules::new);
+    if (jDomModules == null) {
       return emptyList();
     } else {
-      return new JDomModules(modulesElement);
+      return jDomModules;
     }
   }
 
@@ -145,7 +162,7 @@ public class JDomModelBase extends ModelBase implements JDomBacked {
       if (jDomModules instanceof JDomModules) {
         jDomModules.clear();
       } else {
-        jDomModules = new JDomModules(insertNewElement(POM_ELEMENT_MODULES, jdomElement));
+        jDomModules = this.modules.get(insertNewElement(POM_ELEMENT_MODULES, jdomElement), JDomModules::new);
       }
       jDomModules.addAll(modules);
     }
@@ -160,39 +177,24 @@ public class JDomModelBase extends ModelBase implements JDomBacked {
   }
 
   public Properties getProperties() {
-    Element properties = jdomElement.getChild(POM_ELEMENT_PROPERTIES, jdomElement.getNamespace());
-
-    if (properties == null) {
-      return null;
-    } else {
-      return new JDomProperties(properties);
-    }
+    return properties.get(getChildElement(POM_ELEMENT_PROPERTIES, jdomElement), JDomProperties::new);
   }
 
   public void setProperties(Properties properties) {
     if (properties == null) {
       rewriteElement(POM_ELEMENT_PROPERTIES, null, jdomElement);
     } else {
-      Properties jDomProperties = getProperties();
-      if (jDomProperties != null) {
-        jDomProperties.clear();
-      } else {
-        jDomProperties = new JDomProperties(insertNewElement(POM_ELEMENT_PROPERTIES, jdomElement));
-      }
-      for (Map.Entry<Object, Object> entry : properties.entrySet()) {
-        jDomProperties.setProperty((String) entry.getKey(), (String) entry.getValue());
+      JDomProperties jDomProperties = (JDomProperties) getProperties();
+      if (jDomProperties == null) {
+        Element propertiesElement = insertNewElement(POM_ELEMENT_PROPERTIES, jdomElement);
+        jDomProperties = this.properties.get(propertiesElement, JDomProperties::new);
       }
+      jDomProperties.setProperties(properties);
     }
   }
 
   public Reporting getReporting() {
-    Element reporting = jdomElement.getChild(POM_ELEMENT_REPORTING, jdomElement.getNamespace());
-
-    if (reporting == null) {
-      return null;
-    } else {
-      return new JDomReporting(reporting);
-    }
+    return reporting.get(getChildElement(POM_ELEMENT_REPORTING, jdomElement), JDomReporting::new);
   }
 
   public void setReporting(Reporting reporting) {
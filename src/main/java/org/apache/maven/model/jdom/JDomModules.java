@@ -29,6 +29,7 @@ import java.util.ListIterator;
 import static java.util.Arrays.asList;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_MODULE;
 import static org.apache.maven.model.jdom.util.JDomUtils.detectIndentation;
+import static org.apache.maven.model.jdom.util.JDomUtils.markModified;
 
 /**
  * JDOM implementation of POMs {@code modules} element.
@@ -66,6 +67,7 @@ public class JDomModules extends ArrayList<String> implements JDomBacked {
             asList(
                     new Text("\n" + detectIndentation(jdomElement)),
                     newModule));
+    markModified(jdomElement);
     return super.add(module);
   }
 
@@ -25,21 +25,18 @@ import org.apache.maven.model.PluginExecution;
 import org.apache.maven.model.jdom.util.JDomConfigurationContainerHelper;
 import org.jdom2.Element;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEPENDENCIES;
-import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_EXECUTION;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_EXECUTIONS;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_EXTENSIONS;
-import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_GOAL;
-import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_GOALS;
-import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ID;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_INHERITED;
-import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PHASE;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.newDetachedElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 
 /**
@@ -53,6 +50,12 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
 
   private final MavenCoordinate coordinate;
 
+  private JDomDependencies dependencies;
+
+  private JDomExecutions executions;
+
+  private transient JDomPlugins owner;
+
   public JDomPlugin(Element jdomElement) {
     this.jdomElement = jdomElement;
     this.coordinate = new JDomMavenCoordinate(jdomElement);
@@ -65,7 +68,9 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
 
   @Override
   public void setArtifactId(String artifactId) {
+    String oldKey = getKey();
     coordinate.setArtifactId(artifactId);
+    keyChanged(oldKey);
   }
 
   @Override
@@ -79,13 +84,21 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
   }
 
   @Override
-  public List<Dependency> getDependencies() {
-    Element dependenciesElm = jdomElement.getChild(POM_ELEMENT_DEPENDENCIES, jdomElement.getNamespace());
-    return new JDomDependencies(dependenciesElm, this);
+  public synchronized List<Dependency> getDependencies() {
+    Element dependenciesElm = getChildElement(POM_ELEMENT_DEPENDENCIES, jdomElement);
+    if (dependenciesElm == null) {
+      if (dependencies == null) {
+        dependencies = new JDomDependencies(newDetachedElement(POM_ELEMENT_DEPENDENCIES, jdomElement), this);
+      }
+    } else if (dependencies == null || dependencies.getJDomElement() != dependenciesElm) {
+      dependencies = new JDomDependencies(dependenciesElm, this);
+    }
+    return dependencies;
   }
 
   @Override
-  public void setDependencies(List<Dependency> dependencies) {
+  public synchronized void setDependencies(List<Dependency> dependencies) {
+    this.dependencies = null;
     if (dependencies == null) {
       rewriteElement(POM_ELEMENT_DEPENDENCIES, null, jdomElement);
     } else {
@@ -94,35 +107,29 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
   }
 
   @Override
-  public List<PluginExecution> getExecutions() {
-    Element executionsElm = jdomElement.getChild(POM_ELEMENT_EXECUTIONS, jdomElement.getNamespace());
-    return executionsElm==null ? Collections.emptyList() : new JDomExecutions(executionsElm, this);
+  public synchronized List<PluginExecution> getExecutions() {
+    Element executionsElm = getChildElement(POM_ELEMENT_EXECUTIONS, jdomElement);
+    if (executionsElm == null) {
+      if (executions == null) {
+        executions = new JDomExecutions(newDetachedElement(POM_ELEMENT_EXECUTIONS, jdomElement), this);
+      }
+    } else if (executions == null || executions.getJDomElement() != executionsElm) {
+      executions = new JDomExecutions(executionsElm, this);
+    }
+    return executions;
   }
 
   @Override
-  public void setExecutions(List<PluginExecution> executions) {
+  public synchronized void setExecutions(List<PluginExecution> executions) {
     if (executions == null) {
+      this.executions = null;
       rewriteElement(POM_ELEMENT_EXECUTIONS, null, jdomElement);
     } else {
-      Element executionsElement = insertNewElement(POM_ELEMENT_EXECUTIONS, jdomElement);
-      for (PluginExecution execution : executions) {
-        Element executionElement = insertNewElement(POM_ELEMENT_EXECUTION, executionsElement);
-        if (execution.getId() != null && !"default".equals(execution.getId())) {
-          Element executionIdElement = insertNewElement(POM_ELEMENT_ID, executionElement);
-          executionIdElement.setText(execution.getId());
-        }
-        if (execution.getPhase() != null) {
-          Element executionPhaseElement = insertNewElement(POM_ELEMENT_PHASE, executionElement);
-          executionPhaseElement.setText(execution.getPhase());
-        }
-        if (execution.getGoals() != null) {
-          Element executionGoalsElement = insertNewElement(POM_ELEMENT_GOALS, executionElement);
-          for (String goal : execution.getGoals()) {
-            Element executionGoalElement = insertNewElement(POM_ELEMENT_GOAL, executionGoalsElement);
-            executionGoalElement.setText(goal);
-          }
-        }
-      }
+      // Copied first, because the given list may be the one returned by getExecutions().
+      List<PluginExecution> newExecutions = new ArrayList<>(executions);
+      JDomExecutions jdomExecutions = (JDomExecutions) getExecutions();
+      jdomExecutions.clear();
+      jdomExecutions.addAll(newExecutions);
     }
   }
 
@@ -163,7 +170,9 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
 
   @Override
   public void setGroupId(String groupId) {
+    String oldKey = getKey();
     coordinate.setGroupId(groupId);
+    keyChanged(oldKey);
   }
 
   @Override
@@ -198,17 +207,32 @@ public class JDomPlugin extends Plugin implements JDomBacked, MavenCoordinate {
 
   @Override
   public void flushExecutionMap() {
-    throw new UnsupportedOperationException();
+    // The map of the executions is a live view.
   }
 
+  /**
+   * Returns a live, read-only view of the executions by id (see {@link JDomExecutions#getExecutionsAsMap()}).
+   *
+   * @return the executions by id.
+   */
   @Override
   public Map<String, PluginExecution> getExecutionsAsMap() {
-    throw new UnsupportedOperationException();
+    return ((JDomExecutions) getExecutions()).getExecutionsAsMap();
   }
 
   @Override
   public String getKey() {
-    return constructKey(getGroupId(), getArtifactId());
+    return JDomPlugins.key(getGroupId(), getArtifactId());
+  }
+
+  void setOwner(JDomPlugins owner) {
+    this.owner = owner;
+  }
+
+  private void keyChanged(String oldKey) {
+    if (owner != null) {
+      owner.keyChanged(this, oldKey);
+    }
   }
 
   @Override
@@ -22,16 +22,127 @@ package org.apache.maven.model.jdom;
 import org.apache.maven.model.PluginExecution;
 import org.apache.maven.model.jdom.util.JDomConfigurationContainerHelper;
 import org.jdom2.Element;
+import org.jdom2.filter.ElementFilter;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_GOAL;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_GOALS;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ID;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PHASE;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
+import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
+
+/**
+ * JDOM implementation of POMs {@code execution} element.
+ * <p>
+ * An execution without {@code id} element has the id {@value PluginExecution#DEFAULT_EXECUTION_ID}. The
+ * {@link #getGoals() goals} are read from the {@code goals} element on each call, so they have to be changed with
+ * {@link #setGoals(List)}, {@link #addGoal(String)} or {@link #removeGoal(String)}.
+ */
 public class JDomPluginExecution extends PluginExecution implements JDomBacked {
   private static final long serialVersionUID = -6973299112773078102L;
 
   private final Element jdomElement;
 
+  private transient JDomExecutions owner;
+
   JDomPluginExecution(Element jdomElement) {
     this.jdomElement = jdomElement;
   }
 
+  JDomPluginExecution(Element jdomElement, PluginExecution execution) {
+    this.jdomElement = jdomElement;
+
+    setId(execution.getId());
+    setPhase(execution.getPhase());
+    setGoals(execution.getGoals());
+    setConfiguration(execution.getConfiguration());
+  }
+
+  @Override
+  public String getId() {
+    String id = getChildElementTextTrim(POM_ELEMENT_ID, jdomElement);
+    return id == null ? DEFAULT_EXECUTION_ID : id;
+  }
+
+  /**
+   * Sets the id of this execution. The {@code id} element is removed for the default id.
+   *
+   * @param id the id, {@code null} for the default id.
+   */
+  @Override
+  public void setId(String id) {
+    String oldId = getId();
+    rewriteElement(POM_ELEMENT_ID, DEFAULT_EXECUTION_ID.equals(id) ? null : id, jdomElement);
+    if (owner != null) {
+      owner.idChanged(this, oldId);
+    }
+  }
+
+  @Override
+  public String getPhase() {
+    return getChildElementTextTrim(POM_ELEMENT_PHASE, jdomElement);
+  }
+
+  @Override
+  public void setPhase(String phase) {
+    rewriteElement(POM_ELEMENT_PHASE, phase, jdomElement);
+  }
+
+  /**
+   * Returns a copy of the goals of this execution.
+   *
+   * @return the goals.
+   */
+  @Override
+  public List<String> getGoals() {
+    List<String> goals = new ArrayList<>();
+    Element goalsElm = getChildElement(POM_ELEMENT_GOALS, jdomElement);
+    if (goalsElm != null) {
+      for (Element goalElm : goalsElm.getContent(new ElementFilter(POM_ELEMENT_GOAL, goalsElm.getNamespace()))) {
+        goals.add(goalElm.getTextTrim());
+      }
+    }
+    return goals;
+  }
+
+  /**
+   * Replaces the goals of this execution. The {@code goals} element is removed if there are no goals.
+   *
+   * @param goals the goals.
+   */
+  @Override
+  public void setGoals(List<String> goals) {
+    rewriteElement(POM_ELEMENT_GOALS, null, jdomElement);
+    if (goals != null && !goals.isEmpty()) {
+      Element goalsElm = insertNewElement(POM_ELEMENT_GOALS, jdomElement);
+      for (String goal : goals) {
+        insertNewElement(POM_ELEMENT_GOAL, goalsElm).setText(goal);
+      }
+    }
+  }
+
+  @Override
+  public void addGoal(String goal) {
+    Element goalsElm = getChildElement(POM_ELEMENT_GOALS, jdomElement);
+    if (goalsElm == null) {
+      goalsElm = insertNewElement(POM_ELEMENT_GOALS, jdomElement);
+    }
+    insertNewElement(POM_ELEMENT_GOAL, goalsElm).setText(goal);
+  }
+
+  @Override
+  public void removeGoal(String goal) {
+    List<String> goals = getGoals();
+    if (goals.remove(goal)) {
+      setGoals(goals);
+    }
+  }
+
   @Override
   public Element getJDomElement() {
     return jdomElement;
@@ -46,4 +157,8 @@ public class JDomPluginExecution extends PluginExecution implements JDomBacked {
   public void setConfiguration(Object configuration) {
     JDomConfigurationContainerHelper.setConfiguration(jdomElement, configuration);
   }
+
+  void setOwner(JDomExecutions owner) {
+    this.owner = owner;
+  }
 }
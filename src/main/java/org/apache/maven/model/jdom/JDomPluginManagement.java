@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PLUGINS;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 
@@ -40,17 +41,19 @@ public class JDomPluginManagement extends PluginManagement implements JDomBacked
 
   private final Element jdomElement;
 
+  private final JDomWrapperCache<JDomPlugins> plugins = new JDomWrapperCache<>();
+
   public JDomPluginManagement(Element jdomElement) {
     this.jdomElement = jdomElement;
   }
 
   @Override
   public List<Plugin> getPlugins() {
-    Element pluginsElm = jdomElement.getChild(POM_ELEMENT_PLUGINS, jdomElement.getNamespace());
-    if (pluginsElm == null) {
+    JDomPlugins jdomPlugins = plugins.get(getChildElement(POM_ELEMENT_PLUGINS, jdomElement), JDomPlugins::new);
+    if (jdomPlugins == null) {
       return Collections.emptyList();
     } else {
-      return new JDomPlugins(pluginsElm);
+      return jdomPlugins;
     }
   }
 
@@ -59,18 +62,27 @@ public class JDomPluginManagement extends PluginManagement implements JDomBacked
     if (plugins == null) {
       rewriteElement(POM_ELEMENT_PLUGINS, null, jdomElement);
     } else {
-      new JDomPlugins(insertNewElement(POM_ELEMENT_PLUGINS, jdomElement)).addAll(plugins);
+      this.plugins.get(insertNewElement(POM_ELEMENT_PLUGINS, jdomElement), JDomPlugins::new).addAll(plugins);
     }
   }
 
   @Override
   public void flushPluginMap() {
-    throw new UnsupportedOperationException();
+    // The map of the plugins is a live view.
   }
 
+  /**
+   * Returns a live, read-only view of the managed plugins by key (see {@link JDomPlugins#getPluginsAsMap()}). If there
+   * is no {@code plugins} element, an empty map is returned, which does not reflect plugins that are added later.
+   *
+   * @return the managed plugins by key.
+   */
   @Override
   public Map<String, Plugin> getPluginsAsMap() {
-    throw new UnsupportedOperationException();
+    List<Plugin> jdomPlugins = getPlugins();
+    return jdomPlugins instanceof JDomPlugins
+            ? ((JDomPlugins) jdomPlugins).getPluginsAsMap()
+            : Collections.emptyMap();
   }
 
   /** {@inheritDoc} */
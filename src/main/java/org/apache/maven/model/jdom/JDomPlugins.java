@@ -22,24 +22,53 @@ import org.apache.maven.model.PluginExecution;
 import org.jdom2.Element;
 import org.jdom2.filter.ElementFilter;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PLUGIN;
 import static org.apache.maven.model.jdom.util.JDomUtils.addElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.removeChildElement;
+import static org.codehaus.plexus.util.StringUtils.defaultString;
 
+/**
+ * JDOM implementation of POMs {@code plugins} element.
+ * <p>
+ * The plugins are indexed by {@link Plugin#getKey() key}, which makes {@link #find(String, String)},
+ * {@link #contains(String, String)}, {@link #remove(Object)} and the lookups in {@link #getPluginsAsMap()} constant
+ * time operations. The index is updated when the coordinates of a contained plugin are changed.
+ */
 public class JDomPlugins extends ArrayList<Plugin> implements JDomBacked {
 
+  /**
+   * The group id of plugins without {@code groupId} element.
+   */
+  static final String DEFAULT_GROUP_ID = "org.apache.maven.plugins";
+
   private final Element jdomElement;
 
+  /**
+   * The plugins by {@link #key(String, String) key}, each list in the order of this list.
+   */
+  private final Map<String, List<JDomPlugin>> index = new HashMap<>();
+
+  private final Map<String, Plugin> pluginsAsMap = new PluginsAsMap();
+
   public JDomPlugins(Element jdomElement) {
     super(transformToJDomPluginList(getPluginElements(jdomElement)));
     this.jdomElement = jdomElement;
+
+    for (Plugin plugin : this) {
+      addToIndex((JDomPlugin) plugin, -1);
+    }
   }
 
   private static List<Element> getPluginElements(Element plugins) {
@@ -57,17 +86,20 @@ public class JDomPlugins extends ArrayList<Plugin> implements JDomBacked {
   @Override
   public void add(int index, Plugin plugin) {
     Element newElement;
+    JDomPlugin jDomPlugin;
     if (plugin instanceof JDomPlugin) {
+      newElement = ((JDomPlugin) plugin).getJDomElement().clone();
       if (index == -1) {
-        addElement(((JDomPlugin) plugin).getJDomElement().clone(), jdomElement);
+        addElement(newElement, jdomElement);
       } else {
-        addElement(((JDomPlugin) plugin).getJDomElement().clone(), jdomElement, index);
+        addElement(newElement, jdomElement, index);
       }
+      jDomPlugin = new JDomPlugin(newElement);
     } else {
       newElement = index == -1
           ? insertNewElement(POM_ELEMENT_PLUGIN, jdomElement)
           : insertNewElement(POM_ELEMENT_PLUGIN, jdomElement, index);
-      JDomPlugin jDomPlugin = new JDomPlugin(newElement);
+      jDomPlugin = new JDomPlugin(newElement);
 
       jDomPlugin.setGroupId(plugin.getGroupId());
       jDomPlugin.setArtifactId(plugin.getArtifactId());
@@ -92,24 +124,124 @@ public class JDomPlugins extends ArrayList<Plugin> implements JDomBacked {
       }
     }
 
+    // The list holds the wrapper of the new element, so that it can be modified and removed later.
+    addToIndex(jDomPlugin, index);
     if (index == -1) {
-      super.add(plugin);
+      super.add(jDomPlugin);
     } else {
-      super.add(index, plugin);
+      super.add(index, jDomPlugin);
     }
   }
 
+  /**
+   * Removes the first plugin with the same {@code groupId} and {@code artifactId} as the given one.
+   *
+   * @param plugin the plugin to be removed.
+   * @return {@code true} if a plugin was removed.
+   */
   @Override
   public boolean remove(final Object plugin) {
     Plugin removePlugin = (Plugin) plugin;
-    for (Plugin candidate : this) {
-      if (Objects.equals(candidate.getGroupId(), removePlugin.getGroupId())
-              && Objects.equals(candidate.getArtifactId(), removePlugin.getArtifactId())) {
-        removeChildElement(jdomElement, ((JDomPlugin) candidate).getJDomElement());
-        return super.remove(removePlugin);
+    JDomPlugin candidate = (JDomPlugin) find(removePlugin.getGroupId(), removePlugin.getArtifactId());
+    if (candidate == null) {
+      return false;
+    }
+
+    removeChildElement(jdomElement, candidate.getJDomElement());
+    removeFromIndex(candidate);
+    for (int i = 0; i < size(); i++) {
+      if (get(i) == candidate) {
+        super.remove(i);
+        break;
       }
     }
-    return false;
+    return true;
+  }
+
+  /**
+   * Returns the first plugin with the given coordinates.
+   *
+   * @param groupId    the group id, {@code null} for the default group id {@code org.apache.maven.plugins}.
+   * @param artifactId the artifact id.
+   * @return the plugin or {@code null} if there is none.
+   */
+  public Plugin find(String groupId, String artifactId) {
+    List<JDomPlugin> candidates = index.get(key(groupId, artifactId));
+    return candidates == null ? null : candidates.get(0);
+  }
+
+  /**
+   * Checks whether there is a plugin with the given coordinates.
+   *
+   * @param groupId    the group id, {@code null} for the default group id {@code org.apache.maven.plugins}.
+   * @param artifactId the artifact id.
+   * @return {@code true} if there is such a plugin.
+   * @see #find(String, String)
+   */
+  public boolean contains(String groupId, String artifactId) {
+    return index.containsKey(key(groupId, artifactId));
+  }
+
+  /**
+   * Returns a live, read-only view of the plugins by {@link Plugin#getKey() key}, in the order of this list. Of
+   * multiple plugins with the same key, the first one is contained.
+   *
+   * @return the plugins by key.
+   */
+  public Map<String, Plugin> getPluginsAsMap() {
+    return pluginsAsMap;
+  }
+
+  /**
+   * Updates the index after the coordinates of a contained plugin have been changed.
+   *
+   * @param plugin the changed plugin.
+   * @param oldKey the key of the plugin before the change.
+   */
+  void keyChanged(JDomPlugin plugin, String oldKey) {
+    String newKey = plugin.getKey();
+    if (!newKey.equals(oldKey)) {
+      removeFromIndex(plugin, oldKey);
+      addToIndex(plugin, indexOf(plugin));
+    }
+  }
+
+  /**
+   * Adds a plugin to the index.
+   *
+   * @param plugin    the plugin.
+   * @param listIndex the position of the plugin in this list or {@code -1} if it is appended.
+   */
+  private void addToIndex(JDomPlugin plugin, int listIndex) {
+    plugin.setOwner(this);
+    List<JDomPlugin> candidates = index.computeIfAbsent(plugin.getKey(), key -> new ArrayList<>(1));
+    int candidateIndex = candidates.size();
+    if (listIndex >= 0 && listIndex < size()) {
+      // Keep the candidates in the order of this list.
+      while (candidateIndex > 0 && indexOf(candidates.get(candidateIndex - 1)) >= listIndex) {
+        candidateIndex--;
+      }
+    }
+    candidates.add(candidateIndex, plugin);
+  }
+
+  private void removeFromIndex(JDomPlugin plugin) {
+    removeFromIndex(plugin, plugin.getKey());
+    plugin.setOwner(null);
+  }
+
+  private void removeFromIndex(JDomPlugin plugin, String key) {
+    List<JDomPlugin> candidates = index.get(key);
+    if (candidates != null) {
+      candidates.remove(plugin);
+      if (candidates.isEmpty()) {
+        index.remove(key);
+      }
+    }
+  }
+
+  static String key(String groupId, String artifactId) {
+    return Plugin.constructKey(defaultString(groupId, DEFAULT_GROUP_ID), artifactId);
   }
 
   @Override
@@ -192,4 +324,41 @@ public class JDomPlugins extends ArrayList<Plugin> implements JDomBacked {
   public Element getJDomElement() {
     return jdomElement;
   }
+
+  private class PluginsAsMap extends AbstractMap<String, Plugin> {
+
+    @Override
+    public Plugin get(Object key) {
+      List<JDomPlugin> candidates = index.get(key);
+      return candidates == null ? null : candidates.get(0);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return index.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return index.size();
+    }
+
+    @Override
+    public Set<Entry<String, Plugin>> entrySet() {
+      return new AbstractSet<Entry<String, Plugin>>() {
+        @Override
+        public Iterator<Entry<String, Plugin>> iterator() {
+          return JDomPlugins.this.stream()
+                  .map(plugin -> (Entry<String, Plugin>) new SimpleImmutableEntry<>(plugin.getKey(), plugin))
+                  .filter(entry -> get(entry.getKey()) == entry.getValue())
+                  .iterator();
+        }
+
+        @Override
+        public int size() {
+          return index.size();
+        }
+      };
+    }
+  }
 }
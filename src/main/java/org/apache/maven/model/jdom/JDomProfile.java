@@ -37,6 +37,7 @@ import java.util.Properties;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ACTIVATION;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ID;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
 import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
@@ -59,7 +60,7 @@ public class JDomProfile extends Profile implements JDomBacked {
 
   @Override
   public Activation getActivation() {
-    Element elm = jdomElement.getChild(POM_ELEMENT_ACTIVATION, jdomElement.getNamespace());
+    Element elm = getChildElement(POM_ELEMENT_ACTIVATION, jdomElement);
     if (elm == null) {
       return null;
     } else {
@@ -75,11 +75,14 @@ public class JDomProfiles extends ArrayList<Profile> implements JDomBacked {
     }
 
     Element newElement;
+    JDomProfile jDomProfile;
     if (profile instanceof JDomProfile) {
-      addElement(((JDomProfile) profile).getJDomElement().clone(), jdomElement);
+      newElement = ((JDomProfile) profile).getJDomElement().clone();
+      addElement(newElement, jdomElement);
+      jDomProfile = new JDomProfile(newElement);
     } else {
       newElement = insertNewElement(POM_ELEMENT_PROFILE, jdomElement);
-      JDomProfile jDomProfile = new JDomProfile(newElement);
+      jDomProfile = new JDomProfile(newElement);
       jDomProfile.setId(profile.getId());
 
       Activation activation = profile.getActivation();
@@ -133,7 +136,8 @@ public class JDomProfiles extends ArrayList<Profile> implements JDomBacked {
       }
     }
 
-    return super.add(profile);
+    // The list holds the wrapper of the new element, so that it can be modified and removed later.
+    return super.add(jDomProfile);
   }
 
   @Override
@@ -145,6 +149,8 @@ public class JDomProfiles extends ArrayList<Profile> implements JDomBacked {
         boolean remove = super.remove(candidate);
         if (super.isEmpty()) {
           JDomUtils.removeChildAndItsCommentFromContent(parent.getJDomElement(), jdomElement);
+          // A new profiles element is inserted when a profile is added again.
+          jdomElement = null;
         }
         return remove;
       }
@@ -152,6 +158,12 @@ public class JDomProfiles extends ArrayList<Profile> implements JDomBacked {
     return false;
   }
 
+  @Override
+  public boolean isModified() {
+    // Without a profiles element (none in the source or all profiles removed), the model's document is checked.
+    return jdomElement != null ? JDomBacked.super.isModified() : parent.isModified();
+  }
+
   @Override
   public boolean addAll(Collection<? extends Profile> profiles) {
     boolean added = false;
@@ -19,8 +19,8 @@ package org.apache.maven.model.jdom;
  * under the License.
  */
 
+import org.jdom2.Content;
 import org.jdom2.Element;
-import org.jdom2.filter.ElementFilter;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -29,19 +29,41 @@ import java.io.PrintStream;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Writer;
-import java.util.Collection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
-import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.addElements;
+import static org.apache.maven.model.jdom.util.JDomUtils.insertNewElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.markModified;
+import static org.apache.maven.model.jdom.util.JDomUtils.removeChildAndItsCommentFromContent;
+import static org.apache.maven.model.jdom.util.JDomUtils.rewriteValue;
 
 /**
  * JDom implementation of poms PROPERTIES element
+ * <p>
+ * The property elements are indexed by name on first use, which makes {@link #getProperty(String)},
+ * {@link #put(Object, Object)} and {@link #remove(Object)} constant time operations (apart from the removal of the
+ * element itself). The {@link #entrySet() entry set} is a live view of the properties in document order, which is
+ * created only once. The modifications made through this object keep the index in sync. Modifications made by other
+ * code are detected by a changed content size or by a property element that was moved, renamed or detached. In that
+ * case the index is built again.
+ * <p>
+ * Only the child elements in the namespace of the properties element are properties, so {@link #size()},
+ * {@link #isEmpty()} and {@link #toString()} are consistent with the entry set and ignore elements in other
+ * namespaces.
+ * <p>
+ * Like {@link Properties}, the single modifications {@link #put(Object, Object)} and {@link #remove(Object)} are
+ * synchronized, as is the lazy (re)building of the index. The bulk modifications are not atomic.
  *
  * @author Robert Scholte (for <a href="https://github.com/apache/maven-release/">Maven Release projct</a>, version 3.0)
  */
@@ -49,35 +71,154 @@ public class JDomProperties extends Properties implements JDomBacked {
 
   private final Element jdomElement;
 
+  private final Set<Map.Entry<Object, Object>> entrySet = new JDomPropertiesSet();
+
+  /**
+   * The property elements in the namespace of the properties element, in document order, or {@code null} if the index
+   * has not been built yet.
+   */
+  private List<JDomProperty> entries;
+
+  /**
+   * The first property element by name.
+   */
+  private Map<String, JDomProperty> index;
+
+  /**
+   * The content size of the properties element when the index was last updated.
+   */
+  private int contentSize;
+
   public JDomProperties(Element jdomElement) {
     this.jdomElement = jdomElement;
   }
 
   @Override
   public Set<Map.Entry<Object, Object>> entrySet() {
-    JDomPropertiesSet entrySet = new JDomPropertiesSet();
+    return entrySet;
+  }
 
-    for (Element property : jdomElement.getContent(new ElementFilter(jdomElement.getNamespace()))) {
-      entrySet.addProperty(new JDomProperty(property));
+  @Override
+  public synchronized Object put(Object key, Object value) {
+    if (value == null) {
+      return remove(key);
     }
 
-    return entrySet;
+    JDomProperty property = find((String) key);
+    if (property != null) {
+      String previousValue = property.getValueOrNull();
+      rewriteValue(property.getJDomElement(), (String) value);
+      return previousValue;
+    }
+
+    Element element = insertNewElement((String) key, jdomElement, getLastElementIndex() + 1);
+    element.setText((String) value);
+    added(element);
+    return null;
   }
 
+  /**
+   * Sets all given properties. The values of existing properties are rewritten in place, the elements of new
+   * properties are appended in a single operation after the last property (see
+   * {@link org.apache.maven.model.jdom.util.JDomUtils#addElements(List, Element, int)}). Properties with a
+   * {@code null} value are removed.
+   *
+   * @param properties the properties to be set.
+   */
   @Override
-  public synchronized Object put(Object key, Object value) {
-    String previousValue = getChildElementTextTrim((String) key, jdomElement);
-    rewriteElement((String) key, (String) value, jdomElement);
-    return previousValue;
+  public void putAll(Map<?, ?> properties) {
+    if (properties == this) {
+      return;
+    }
+
+    Map<String, Element> newElements = new LinkedHashMap<>();
+    for (Map.Entry<?, ?> entry : properties.entrySet()) {
+      String key = (String) entry.getKey();
+      String value = (String) entry.getValue();
+      JDomProperty property = find(key);
+      if (value == null) {
+        newElements.remove(key);
+        if (property != null) {
+          remove(key);
+        }
+      } else if (property != null) {
+        rewriteValue(property.getJDomElement(), value);
+      } else {
+        Element element = newElements.get(key);
+        if (element == null) {
+          element = new Element(key, jdomElement.getNamespace());
+          newElements.put(key, element);
+        }
+        element.setText(value);
+      }
+    }
+
+    if (!newElements.isEmpty()) {
+      addElements(new ArrayList<>(newElements.values()), jdomElement, getLastElementIndex() + 1);
+      for (Element element : newElements.values()) {
+        added(element);
+      }
+    }
+  }
+
+  /**
+   * Replaces all properties with the given ones. Properties that are not contained in the given map are removed,
+   * the others are set as by {@link #putAll(Map)}.
+   *
+   * @param properties the new properties.
+   */
+  public void setProperties(Map<?, ?> properties) {
+    if (properties == this) {
+      return;
+    }
+
+    List<JDomProperty> removedProperties = new ArrayList<>();
+    for (JDomProperty property : entries()) {
+      String key = property.getName();
+      // Of multiple elements with the same name, only the first one is kept.
+      if (!properties.containsKey(key) || index.get(key) != property) {
+        removedProperties.add(property);
+      }
+    }
+    for (JDomProperty property : removedProperties) {
+      removeProperty(property);
+    }
+    putAll(properties);
   }
 
   @Override
   public synchronized Object remove(Object key) {
-    String previousValue = getChildElementTextTrim((String) key, jdomElement);
-    rewriteElement((String) key, null, jdomElement);
+    JDomProperty property = key instanceof String ? find((String) key) : null;
+    if (property == null) {
+      return null;
+    }
+
+    String previousValue = property.getValueOrNull();
+    removeProperty(property);
     return previousValue;
   }
 
+  private void removeProperty(JDomProperty property) {
+    String name = property.getName();
+    removeChildAndItsCommentFromContent(jdomElement, property.getJDomElement());
+    entries.remove(property);
+    if (index.get(name) == property) {
+      index.remove(name);
+      for (JDomProperty other : entries) {
+        if (name.equals(other.getName())) {
+          index.put(name, other);
+          break;
+        }
+      }
+    }
+    contentSize = jdomElement.getContentSize();
+  }
+
+  @Override
+  public void clear() {
+    setProperties(Collections.emptyMap());
+  }
+
   @Override
   public synchronized void load(Reader reader)
           throws IOException {
@@ -130,27 +271,37 @@ public class JDomProperties extends Properties implements JDomBacked {
     return key instanceof String ? getProperty((String)key) : null;
   }
 
+  @Override
+  public boolean containsKey(Object key) {
+    return key instanceof String && find((String) key) != null;
+  }
+
   @Override
   public int size() {
-    return jdomElement.getChildren().size();
+    return entries().size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return entries().isEmpty();
   }
 
   @Override
   public String toString() {
-    String kvs = jdomElement.getChildren().stream()
-            .map(j -> j.getName()+"="+j.getTextTrim())
+    String kvs = entries().stream()
+            .map(p -> p.getName() + "=" + p.getValue())
             .collect(Collectors.joining("\n"));
     return "JDomProperties{\n" + kvs + "\n}";
   }
 
   @Override
   public String getProperty(String key) {
-    Element property = jdomElement.getChild(key, jdomElement.getNamespace());
+    JDomProperty property = find(key);
 
     if (property == null) {
       return null;
     } else {
-      return property.getTextTrim();
+      return property.getJDomElement().getTextTrim();
     }
   }
 
@@ -185,42 +336,79 @@ public class JDomProperties extends Properties implements JDomBacked {
     return jdomElement;
   }
 
-  private class JDomPropertiesSet extends HashSet<Map.Entry<Object, Object>> {
-    private void addProperty(JDomProperty jDomProperty) {
-      // The 'add' method can only be called internally.
-      // Adding a property from the outside can currently only be supported using the JDomProperties.put() method.
-      super.add(jDomProperty);
+  /**
+   * Returns the property with the given name, building or rebuilding the index if necessary.
+   */
+  private JDomProperty find(String name) {
+    entries();
+    JDomProperty property = index.get(name);
+    if (property != null && !property.isValid(jdomElement, name)) {
+      // A property element has been moved or renamed from outside.
+      buildIndex();
+      property = index.get(name);
     }
+    return property;
+  }
 
-    @Override
-    public boolean add(Map.Entry<Object, Object> objectObjectEntry) {
-      throw new UnsupportedOperationException();
+  private synchronized List<JDomProperty> entries() {
+    if (entries == null || contentSize != jdomElement.getContentSize()) {
+      buildIndex();
     }
+    return entries;
+  }
 
-    @Override
-    public boolean remove(Object o) {
-      throw new UnsupportedOperationException();
+  private synchronized void buildIndex() {
+    entries = new ArrayList<>();
+    index = new HashMap<>();
+    for (Content content : jdomElement.getContent()) {
+      if (content instanceof Element && isProperty((Element) content)) {
+        added((Element) content);
+      }
     }
+    contentSize = jdomElement.getContentSize();
+  }
 
+  /**
+   * Updates the index after a property element has been appended.
+   */
+  private void added(Element element) {
+    JDomProperty property = new JDomProperty(element);
+    entries.add(property);
+    index.putIfAbsent(element.getName(), property);
+    contentSize = jdomElement.getContentSize();
+  }
 
-    @Override
-    public boolean addAll(Collection<? extends Map.Entry<Object, Object>> c) {
-      throw new UnsupportedOperationException();
-    }
+  private boolean isProperty(Element element) {
+    return element.getNamespace().equals(jdomElement.getNamespace());
+  }
 
-    @Override
-    public boolean retainAll(Collection<?> c) {
-      throw new UnsupportedOperationException();
+  /**
+   * Returns the index of the last child element, searching from the end of the (usually only whitespace) contents after
+   * it.
+   */
+  private int getLastElementIndex() {
+    for (int i = jdomElement.getContentSize() - 1; i >= 0; i--) {
+      if (jdomElement.getContent(i) instanceof Element) {
+        return i;
+      }
     }
+    return -1;
+  }
+
+  /**
+   * Live view of the properties. Adding or removing entries is only supported using the methods of
+   * {@link JDomProperties}.
+   */
+  private class JDomPropertiesSet extends AbstractSet<Map.Entry<Object, Object>> {
 
     @Override
-    public boolean removeAll(Collection<?> c) {
-      throw new UnsupportedOperationException();
+    public Iterator<Map.Entry<Object, Object>> iterator() {
+      return Collections.<Map.Entry<Object, Object>>unmodifiableList(entries()).iterator();
     }
 
     @Override
-    public void clear() {
-      throw new UnsupportedOperationException();
+    public int size() {
+      return entries().size();
     }
   }
 
@@ -232,6 +420,22 @@ public class JDomProperties extends Properties implements JDomBacked {
       this.jdElement = jdElement;
     }
 
+    private String getName() {
+      return jdElement.getName();
+    }
+
+    /**
+     * Returns the trimmed value, mapping the text {@code null} to {@code null}.
+     */
+    private String getValueOrNull() {
+      String text = jdElement.getTextTrim();
+      return "null".equals(text) ? null : text;
+    }
+
+    private boolean isValid(Element parent, String name) {
+      return jdElement.getParent() == parent && name.equals(jdElement.getName());
+    }
+
     @Override
     public Object getKey() {
       return jdElement.getName();
@@ -246,6 +450,7 @@ public class JDomProperties extends Properties implements JDomBacked {
     public Object setValue(Object value) {
       String previousValue = jdElement.getTextTrim();
       jdElement.setText((String) value);
+      markModified(jdElement);
       return previousValue;
     }
 
@@ -30,6 +30,7 @@ import java.util.Map;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PLUGIN;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PLUGINS;
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
 
 /**
  * JDom implementation of poms REPORTING element
@@ -51,7 +52,7 @@ public class JDomReporting extends Reporting implements JDomBacked {
 
   @Override
   public List<ReportPlugin> getPlugins() {
-    Element pluginsElm = jdomElement.getChild(POM_ELEMENT_PLUGINS, jdomElement.getNamespace());
+    Element pluginsElm = getChildElement(POM_ELEMENT_PLUGINS, jdomElement);
     if (pluginsElm == null) {
       return Collections.emptyList();
     } else {
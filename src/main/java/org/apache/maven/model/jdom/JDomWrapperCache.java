@@ -0,0 +1,48 @@
+package org.apache.maven.model.jdom;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Element;
+
+import java.util.function.Function;
+
+/**
+ * Holds the wrapper of a child element, so that a getter returns the same wrapper object as long as the child element
+ * is neither replaced nor removed. A new wrapper is created when the getter finds another element than the wrapped one.
+ *
+ * @param <T> the type of the wrapper.
+ */
+final class JDomWrapperCache<T extends JDomBacked> {
+
+  private T wrapper;
+
+  /**
+   * Returns the wrapper of the given element.
+   *
+   * @param element the current element or {@code null} if there is none.
+   * @param wrap    creates a new wrapper of the element.
+   * @return the cached or new wrapper or {@code null} if the element is {@code null}.
+   */
+  synchronized T get(Element element, Function<Element, T> wrap) {
+    if (element == null) {
+      wrapper = null;
+    } else if (wrapper == null || wrapper.getJDomElement() != element) {
+      wrapper = wrap.apply(element);
+    }
+    return wrapper;
+  }
+}
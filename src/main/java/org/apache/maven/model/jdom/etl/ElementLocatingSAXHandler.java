@@ -0,0 +1,189 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMFactory;
+import org.jdom2.input.sax.SAXHandler;
+import org.jdom2.input.sax.SAXHandlerFactory;
+import org.xml.sax.Attributes;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * SAX handler that records where the root element starts and ends in the parsed source while the document is built.
+ * <p>
+ * The positions are taken from the parser's {@link Locator} and are stored as {@link RootElementLocation} in the
+ * {@link Document#getProperty(String) document properties} (see {@link RootElementLocation#get(Document)}). They allow
+ * to cut the text before and after the root element (XML declaration, DOCTYPE, comments, whitespace) directly out of
+ * the source, without having to serialize the root element again.
+ * <p>
+ * Handlers created by {@link #ELEMENT_LOCATING_FACTORY} additionally record the positions of all elements (see
+ * {@link #removeElementLocations(Document)}).
+ */
+class ElementLocatingSAXHandler extends SAXHandler {
+
+  static final SAXHandlerFactory FACTORY = factory -> new ElementLocatingSAXHandler(factory, false);
+
+  static final SAXHandlerFactory ELEMENT_LOCATING_FACTORY = factory -> new ElementLocatingSAXHandler(factory, true);
+
+  private static final String ELEMENT_LOCATIONS_PROPERTY = ElementLocatingSAXHandler.class.getName();
+
+  private final boolean locateAllElements;
+
+  private int depth;
+  private int startTagEndLine = -1;
+  private int startTagEndColumn = -1;
+  private Map<Element, int[]> elementLocations;
+
+  private ElementLocatingSAXHandler(JDOMFactory factory, boolean locateAllElements) {
+    super(factory);
+    this.locateAllElements = locateAllElements;
+  }
+
+  /**
+   * Returns the positions of all elements that have been recorded while the given document was built and removes
+   * them from the document.
+   *
+   * @param document the document.
+   * @return the line and column (both 1-based) of the end of the start tag and of the end of the end tag by element or
+   * {@code null} if the positions have not been recorded.
+   */
+  @SuppressWarnings("unchecked")
+  static Map<Element, int[]> removeElementLocations(Document document) {
+    Map<Element, int[]> elementLocations = (Map<Element, int[]>) document.getProperty(ELEMENT_LOCATIONS_PROPERTY);
+    document.setProperty(ELEMENT_LOCATIONS_PROPERTY, null);
+    return elementLocations;
+  }
+
+  @Override
+  protected void resetSubCLass() {
+    depth = 0;
+    startTagEndLine = -1;
+    startTagEndColumn = -1;
+    elementLocations = null;
+  }
+
+  @Override
+  public void startElement(String namespaceURI, String localName, String qName, Attributes atts) throws SAXException {
+    Locator locator = getDocumentLocator();
+    if (depth++ == 0 && locator != null) {
+      startTagEndLine = locator.getLineNumber();
+      startTagEndColumn = locator.getColumnNumber();
+    }
+    super.startElement(namespaceURI, localName, qName, atts);
+    if (locateAllElements && locator != null) {
+      if (elementLocations == null) {
+        elementLocations = new IdentityHashMap<>();
+      }
+      elementLocations.put(getCurrentElement(),
+              new int[]{locator.getLineNumber(), locator.getColumnNumber(), -1, -1});
+    }
+  }
+
+  @Override
+  public void endElement(String namespaceURI, String localName, String qName) throws SAXException {
+    Locator locator = getDocumentLocator();
+    if (elementLocations != null && locator != null) {
+      int[] location = elementLocations.get(getCurrentElement());
+      if (location != null) {
+        location[2] = locator.getLineNumber();
+        location[3] = locator.getColumnNumber();
+      }
+    }
+    super.endElement(namespaceURI, localName, qName);
+    if (--depth == 0 && locator != null) {
+      if (startTagEndLine > 0) {
+        RootElementLocation location = new RootElementLocation(
+                startTagEndLine, startTagEndColumn, locator.getLineNumber(), locator.getColumnNumber());
+        getDocument().setProperty(RootElementLocation.class.getName(), location);
+      }
+      if (elementLocations != null) {
+        getDocument().setProperty(ELEMENT_LOCATIONS_PROPERTY, elementLocations);
+      }
+    }
+  }
+
+  /**
+   * Line and column numbers (both 1-based, as reported by the SAX {@link Locator}) of the end of the root elements
+   * start tag and of the end of its end tag.
+   */
+  static final class RootElementLocation {
+
+    private final int startTagEndLine;
+    private final int startTagEndColumn;
+    private final int endTagEndLine;
+    private final int endTagEndColumn;
+
+    private RootElementLocation(int startTagEndLine, int startTagEndColumn, int endTagEndLine, int endTagEndColumn) {
+      this.startTagEndLine = startTagEndLine;
+      this.startTagEndColumn = startTagEndColumn;
+      this.endTagEndLine = endTagEndLine;
+      this.endTagEndColumn = endTagEndColumn;
+    }
+
+    static RootElementLocation get(Document document) {
+      return (RootElementLocation) document.getProperty(RootElementLocation.class.getName());
+    }
+
+    /**
+     * Returns the offset of the {@code '<'} that opens the root elements start tag in the given source.
+     * <p>
+     * The search goes backwards from the end of the start tag. This is safe because a {@code '<'} must neither occur
+     * in element names nor (unescaped) in attribute values.
+     *
+     * @param source the source the document was built from.
+     * @return the offset of the root element in the source or {@code -1} if it cannot be determined.
+     */
+    int getStartOffset(String source) {
+      int startTagEnd = toOffset(source, startTagEndLine, startTagEndColumn);
+      return startTagEnd < 0 ? -1 : source.lastIndexOf('<', startTagEnd - 1);
+    }
+
+    /**
+     * Returns the offset directly after the {@code '>'} that closes the root elements end tag in the given source.
+     *
+     * @param source the source the document was built from.
+     * @return the offset after the root element in the source or {@code -1} if it cannot be determined.
+     */
+    int getEndOffset(String source) {
+      return toOffset(source, endTagEndLine, endTagEndColumn);
+    }
+
+    private static int toOffset(String source, int line, int column) {
+      int offset = 0;
+      int length = source.length();
+      for (int currentLine = 1; currentLine < line; currentLine++) {
+        while (offset < length && source.charAt(offset) != '\n' && source.charAt(offset) != '\r') {
+          offset++;
+        }
+        if (offset == length) {
+          return -1;
+        }
+        if (source.charAt(offset++) == '\r' && offset < length && source.charAt(offset) == '\n') {
+          offset++;
+        }
+      }
+      offset += column - 1;
+      return offset <= length ? offset : -1;
+    }
+  }
+}
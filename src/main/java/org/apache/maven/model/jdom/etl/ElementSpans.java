@@ -0,0 +1,164 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.filter.Filters;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * The source a document was built from together with the regions of the source that are covered by its elements. The
+ * regions are calculated from the positions that have been recorded while parsing (see
+ * {@link ElementLocatingSAXHandler#removeElementLocations(Document)}) and stored in the
+ * {@link Document#getProperty(String) document properties}.
+ * <p>
+ * Each region is given by four offsets: the start of the start tag, the end of the start tag, the start of the end tag
+ * and the end of the end tag. For empty-element tags (like {@code <a/>}), all but the first offset are the same.
+ */
+final class ElementSpans {
+
+  private static final String DOCUMENT_PROPERTY = ElementSpans.class.getName();
+
+  static final int START = 0;
+  static final int START_TAG_END = 1;
+  static final int END_TAG_START = 2;
+  static final int END = 3;
+
+  private final String source;
+  private final Map<Element, int[]> spans;
+
+  private ElementSpans(String source, Map<Element, int[]> spans) {
+    this.source = source;
+    this.spans = spans;
+  }
+
+  /**
+   * Calculates the element regions of the given document and stores them in the document properties. Nothing is
+   * stored if the element positions have not been recorded while parsing.
+   *
+   * @param document the document.
+   * @param source   the source the document was built from.
+   */
+  static void create(Document document, String source) {
+    Map<Element, int[]> locations = ElementLocatingSAXHandler.removeElementLocations(document);
+    if (locations == null) {
+      return;
+    }
+
+    int[] lineStarts = lineStarts(source);
+    Map<Element, int[]> spans = new IdentityHashMap<>(locations.size());
+    for (Map.Entry<Element, int[]> entry : locations.entrySet()) {
+      int[] location = entry.getValue();
+      int startTagEnd = toOffset(lineStarts, source.length(), location[0], location[1]);
+      int end = toOffset(lineStarts, source.length(), location[2], location[3]);
+      if (startTagEnd <= 0 || end < startTagEnd
+              || source.charAt(startTagEnd - 1) != '>' || source.charAt(end - 1) != '>') {
+        continue;
+      }
+      // See RootElementLocation#getStartOffset(String) why searching backwards is safe.
+      int start = source.lastIndexOf('<', startTagEnd - 1);
+      int endTagStart = end == startTagEnd ? end : source.lastIndexOf('<', end - 1);
+      if (start >= 0 && endTagStart >= startTagEnd) {
+        spans.put(entry.getKey(), new int[]{start, startTagEnd, endTagStart, end});
+      }
+    }
+    document.setProperty(DOCUMENT_PROPERTY, new ElementSpans(source, spans));
+  }
+
+  /**
+   * Stores the element regions of a document in a copy of it. The regions are mapped to the elements of the copy by
+   * their position in the document.
+   *
+   * @param document the document.
+   * @param copy     an unmodified deep copy of the document.
+   */
+  static void copy(Document document, Document copy) {
+    ElementSpans spans = get(document);
+    if (spans == null) {
+      return;
+    }
+
+    Map<Element, int[]> copiedSpans = new IdentityHashMap<>(spans.spans.size());
+    Iterator<Element> elements = document.getDescendants(Filters.element());
+    Iterator<Element> copiedElements = copy.getDescendants(Filters.element());
+    while (elements.hasNext() && copiedElements.hasNext()) {
+      int[] span = spans.spans.get(elements.next());
+      Element copiedElement = copiedElements.next();
+      if (span != null) {
+        copiedSpans.put(copiedElement, span);
+      }
+    }
+    copy.setProperty(DOCUMENT_PROPERTY, new ElementSpans(spans.source, copiedSpans));
+  }
+
+  /**
+   * Returns the element regions of the given document.
+   *
+   * @param document the document.
+   * @return the element regions or {@code null} if they have not been {@link #create(Document, String) created}.
+   */
+  static ElementSpans get(Document document) {
+    return (ElementSpans) document.getProperty(DOCUMENT_PROPERTY);
+  }
+
+  String getSource() {
+    return source;
+  }
+
+  /**
+   * Returns the region of the given element in the source.
+   *
+   * @param element the element.
+   * @return the offsets (see {@link #START}, {@link #START_TAG_END}, {@link #END_TAG_START} and {@link #END}) or
+   * {@code null} if the element has not been built from the source.
+   */
+  int[] getSpan(Element element) {
+    return spans.get(element);
+  }
+
+  private static int[] lineStarts(String source) {
+    int[] lineStarts = new int[64];
+    int lines = 1;
+    int length = source.length();
+    for (int offset = 0; offset < length; offset++) {
+      char c = source.charAt(offset);
+      if (c == '\r' && offset + 1 < length && source.charAt(offset + 1) == '\n') {
+        offset++;
+      } else if (c != '\r' && c != '\n') {
+        continue;
+      }
+      if (lines == lineStarts.length) {
+        lineStarts = Arrays.copyOf(lineStarts, lines * 2);
+      }
+      lineStarts[lines++] = offset + 1;
+    }
+    return Arrays.copyOf(lineStarts, lines);
+  }
+
+  private static int toOffset(int[] lineStarts, int length, int line, int column) {
+    if (line < 1 || line > lineStarts.length || column < 1) {
+      return -1;
+    }
+    int offset = lineStarts[line - 1] + column - 1;
+    return offset <= length ? offset : -1;
+  }
+}
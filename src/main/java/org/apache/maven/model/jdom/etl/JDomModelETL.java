@@ -21,34 +21,28 @@ package org.apache.maven.model.jdom.etl;
 
 import org.apache.maven.model.Model;
 import org.apache.maven.model.jdom.JDomModel;
+import org.apache.maven.model.jdom.etl.ElementLocatingSAXHandler.RootElementLocation;
+import org.apache.maven.model.jdom.etl.ModelETLDocumentCache.CachedDocument;
 import org.apache.maven.model.jdom.util.JDomCfg;
+import org.apache.maven.model.jdom.util.JDomCleanup;
 import org.apache.maven.model.jdom.util.JDomCleanupHelper;
-import org.codehaus.plexus.util.IOUtil;
+import org.apache.maven.model.jdom.util.JDomUtils;
 import org.codehaus.plexus.util.ReaderFactory;
-import org.codehaus.plexus.util.WriterFactory;
-import org.jdom2.CDATA;
-import org.jdom2.Comment;
 import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
 import org.jdom2.Namespace;
-import org.jdom2.filter.ContentFilter;
-import org.jdom2.filter.ElementFilter;
 import org.jdom2.input.SAXBuilder;
-import org.jdom2.output.Format;
-import org.jdom2.output.XMLOutputter;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
-import java.io.StringWriter;
-import java.io.Writer;
+import java.nio.file.Files;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 
 /**
  * JDom implementation for extracting, transform, loading the Model (pom.xml)
@@ -59,6 +53,10 @@ public class JDomModelETL implements ModelETL {
 
   private ModelETLRequest modelETLRequest = new ModelETLRequest();
 
+  private SAXBuilder saxBuilder;
+
+  private ModelETLDocumentCache documentCache;
+
   private JDomModel model;
 
   private Document document;
@@ -72,56 +70,104 @@ public class JDomModelETL implements ModelETL {
       throw new IllegalStateException("A model has already been extracted");
     }
 
-    String content = readXmlFile(pomFile, modelETLRequest.getLineSeparator());
-    // we need to eliminate any extra whitespace inside elements, as JDOM will nuke it
-    content = content.replaceAll("<([^!][^>]*?)\\s{2,}([^>]*?)>", "<$1 $2>");
-    content = content.replaceAll("(\\s{2,})/>", "$1 />");
-
-    SAXBuilder builder = new SAXBuilder();
-    document = builder.build(new StringReader(content));
+    if (documentCache != null) {
+      extractCached(pomFile);
+    } else {
+      parse(PomSourceLexer.read(pomFile, modelETLRequest.getLineSeparator(), !modelETLRequest.isIncrementalSave()));
+    }
 
-    // Normalize line endings to platform's style (XML processors like JDOM normalize line endings to "\n" as
-    // per section 2.11 of the XML spec)
-    normaliseLineEndings(document);
+    if (modelETLRequest.isIndexChildElements()) {
+      JDomUtils.indexChildElements(document);
+    }
 
-    // rewrite DOM as a string to find differences, since text outside the root element is not tracked
-    StringWriter w = new StringWriter();
-    printDocumentToWriter(document, w, modelETLRequest.getLineSeparator());
+    model = new JDomModel(document);
+    model.setPomFile(pomFile);
+  }
 
-    int index = content.indexOf(w.toString());
-    if (index >= 0) {
-      intro = content.substring(0, index);
-      outtro = content.substring(index + w.toString().length());
+  private void extractCached(File pomFile) throws IOException, JDOMException {
+    File canonicalFile = pomFile.getCanonicalFile();
+    long lastModified = canonicalFile.lastModified();
+    byte[] bytes = Files.readAllBytes(canonicalFile.toPath());
+    CRC32 checksum = new CRC32();
+    checksum.update(bytes);
+    String key = getClass().getName() + ':' + modelETLRequest.getLineSeparator() + ':'
+            + modelETLRequest.isIncrementalSave() + ':' + canonicalFile.getPath();
+
+    CachedDocument cached = documentCache.get(key, bytes.length, lastModified, checksum.getValue());
+    if (cached != null) {
+      document = cached.getDocument();
+      setIntroAndOuttro(cached.getIntro(), cached.getOuttro());
     } else {
-      /*
-       * NOTE: Due to whitespace, attribute reordering or entity expansion the above indexOf test can easily
-       * fail. So let's try harder. Maybe some day, when JDOM offers a StaxBuilder and this builder employes
-       * XMLInputFactory2.P_REPORT_PROLOG_WHITESPACE, this whole mess can be avoided.
-       */
-      // CHECKSTYLE_OFF: LocalFinalVariableName
-      final String SPACE = "\\s++";
-      final String XML = "<\\?(?:(?:[^\"'>]++)|(?:\"[^\"]*+\")|(?:'[^\']*+'))*+>";
-      final String INTSUB = "\\[(?:(?:[^\"'\\]]++)|(?:\"[^\"]*+\")|(?:'[^\']*+'))*+\\]";
-      final String DOCTYPE =
-              "<!DOCTYPE(?:(?:[^\"'\\[>]++)|(?:\"[^\"]*+\")|(?:'[^\']*+')|(?:" + INTSUB + "))*+>";
-      final String PI = XML;
-      final String COMMENT = "<!--(?:[^-]|(?:-[^-]))*+-->";
-
-      final String INTRO =
-              "(?:(?:" + SPACE + ")|(?:" + XML + ")|(?:" + DOCTYPE + ")|(?:" + COMMENT + ")|(?:" + PI + "))*";
-      final String OUTRO = "(?:(?:" + SPACE + ")|(?:" + COMMENT + ")|(?:" + PI + "))*";
-      final String POM = "(?s)(" + INTRO + ")(.*?)(" + OUTRO + ")";
-      // CHECKSTYLE_ON: LocalFinalVariableName
-
-      Matcher matcher = Pattern.compile(POM).matcher(content);
-      if (matcher.matches()) {
-        intro = matcher.group(1);
-        outtro = matcher.group(matcher.groupCount());
+      String content;
+      try (Reader reader = ReaderFactory.newXmlReader(new ByteArrayInputStream(bytes))) {
+        content = PomSourceLexer.read(reader, modelETLRequest.getLineSeparator(),
+                !modelETLRequest.isIncrementalSave());
       }
+      parse(content);
+      documentCache.put(key, bytes.length, lastModified, checksum.getValue(), document, content, intro, outtro);
+    }
+  }
+
+  private void parse(String content) throws IOException, JDOMException {
+    document = build(content);
+
+    // Whitespace within tags is not collapsed for incremental saving, so the source is kept as it is.
+    if (modelETLRequest.isIncrementalSave()) {
+      ElementSpans.create(document, content);
     }
+  }
 
-    model = new JDomModel(document);
-    model.setPomFile(pomFile);
+  /**
+   * Builds the document from the given source. The text before and after the root element must be set as intro and
+   * outtro (see {@link #setIntroAndOuttro(String, String)}), because it is not tracked by JDOM.
+   *
+   * @param content the source.
+   * @return the document.
+   * @throws IOException   if the source can not be read.
+   * @throws JDOMException if the source can not be parsed.
+   */
+  Document build(String content) throws IOException, JDOMException {
+    SAXBuilder builder = saxBuilder != null
+            ? saxBuilder : newSAXBuilder(modelETLRequest.isIncrementalSave(), modelETLRequest.getLineSeparator());
+    Document document = builder.build(new StringReader(content));
+
+    // The intro and outtro are cut out of the source using the positions of the root element that have been recorded
+    // while parsing. Without them (e.g. for a builder that does not locate the root element), the source is cut
+    // lexically.
+    RootElementLocation rootElementLocation = RootElementLocation.get(document);
+    int startOffset = -1;
+    int endOffset = -1;
+    if (rootElementLocation != null) {
+      startOffset = rootElementLocation.getStartOffset(content);
+      endOffset = rootElementLocation.getEndOffset(content);
+    }
+    if (startOffset < 0 || endOffset <= startOffset) {
+      startOffset = PomSourceLexer.getRootElementStartOffset(content);
+      endOffset = PomSourceLexer.getRootElementEndOffset(content);
+    }
+    setIntroAndOuttro(content, startOffset, endOffset);
+    return document;
+  }
+
+  /**
+   * Cuts the intro and outtro out of the source.
+   *
+   * @param content     the source.
+   * @param startOffset the offset of the root element.
+   * @param endOffset   the offset after the root element.
+   * @throws JDOMException if the offsets do not delimit the root element, so the intro and outtro would be lost.
+   */
+  void setIntroAndOuttro(String content, int startOffset, int endOffset) throws JDOMException {
+    if (startOffset < 0 || endOffset <= startOffset || endOffset > content.length()) {
+      throw new JDOMException("The root element could not be located in the source (offsets " + startOffset + " to "
+              + endOffset + ")");
+    }
+    setIntroAndOuttro(content.substring(0, startOffset), content.substring(endOffset));
+  }
+
+  void setIntroAndOuttro(String intro, String outtro) {
+    this.intro = intro;
+    this.outtro = outtro;
   }
 
   @Override
@@ -134,26 +180,71 @@ public class JDomModelETL implements ModelETL {
     if (model == null) {
       throw new IllegalStateException("A model must be extracted first");
     }
+    if (modelETLRequest.isSkipUnmodified() && !isModified()
+            && targetFile.getAbsoluteFile().equals(model.getPomFile().getAbsoluteFile())) {
+      return;
+    }
     writePom(targetFile);
   }
 
-  @Override
-  public Model getModel() {
+  /**
+   * Checks whether the extracted model was modified.
+   *
+   * @return {@code true} if the model was modified.
+   * @see ModelETLRequest#setSkipUnmodified(boolean)
+   */
+  public boolean isModified() {
     if (model == null) {
       throw new IllegalStateException("A model must be extracted first");
     }
-    return model;
+    return JDomUtils.isModified(document);
   }
 
-  private void normaliseLineEndings(Document document) {
-    for (Iterator<?> i = document.getDescendants(new ContentFilter(ContentFilter.COMMENT)); i.hasNext(); ) {
-      Comment c = (Comment) i.next();
-      c.setText(normalizeLineEndings(c.getText(), modelETLRequest.getLineSeparator()));
+  /**
+   * Creates an independent copy of this ETL, including the extracted model and its modifications, without reading and
+   * parsing the POM file again. This allows to try alternative transformations of the same model: each fork can be
+   * transformed and loaded on its own, without affecting the original or other forks.
+   * <p>
+   * The JDOM tree is copied in memory. The source kept for {@link ModelETLRequest#setIncrementalSave(boolean)
+   * incremental saving} is shared by all forks.
+   *
+   * @return the fork.
+   */
+  public JDomModelETL fork() {
+    if (model == null) {
+      throw new IllegalStateException("A model must be extracted first");
+    }
+
+    JDomModelETL fork = newFork();
+    fork.setModelETLRequest(modelETLRequest);
+    fork.setDocumentCache(documentCache);
+    fork.setIntroAndOuttro(intro, outtro);
+    fork.document = JDomUtils.copyDocument(document);
+    ElementSpans.copy(document, fork.document);
+    if (modelETLRequest.isIndexChildElements()) {
+      JDomUtils.indexChildElements(fork.document);
     }
-    for (Iterator<?> i = document.getDescendants(new ContentFilter(ContentFilter.CDATA)); i.hasNext(); ) {
-      CDATA c = (CDATA) i.next();
-      c.setText(normalizeLineEndings(c.getText(), modelETLRequest.getLineSeparator()));
+
+    fork.model = new JDomModel(fork.document);
+    fork.model.setPomFile(model.getPomFile());
+    return fork;
+  }
+
+  /**
+   * Creates the ETL that {@link #fork()} copies the model to.
+   *
+   * @return a new ETL of the same kind.
+   */
+  JDomModelETL newFork() {
+    return new JDomModelETL();
+  }
+
+  @Override
+  public Model getModel() {
+    if (model == null) {
+      throw new IllegalStateException("A model must be extracted first");
     }
+    return model;
   }
 
   /**
@@ -178,7 +269,7 @@ public class JDomModelETL implements ModelETL {
   /**
    * Clean pom.xml by
    * <ul>
-   * <li>removing empty tags (mind the order!)
+   * <li>removing empty tags, including those that only contain empty tags
    * <li>removing empty profiles tags restricted to profiles parents</li>
    * </ul>
    *
@@ -186,14 +277,19 @@ public class JDomModelETL implements ModelETL {
    * @param profilesParents      List of profiles tag parents
    */
   public void cleanup(List<String> cleanUpEmptyElements, List<String> profilesParents) {
-    Element rootElement = document.getRootElement();
+    cleanup(cleanUpEmptyElements, profilesParents, false);
+  }
 
-    // Remove empty elements
-    for (String cleanUpEmptyElement : cleanUpEmptyElements) {
-      JDomCleanupHelper.cleanupEmptyElements(rootElement, cleanUpEmptyElement);
-    }
-    // Remove empty (i.e. with no elements) profile and profiles tag
-    JDomCleanupHelper.cleanupEmptyProfiles(rootElement, profilesParents);
+  /**
+   * Clean pom.xml like {@link #cleanup(List, List)} and optionally {@link #squashMultilines() squash multiple
+   * consecutive newlines}, all in a single traversal of the document (see {@link JDomCleanup}).
+   *
+   * @param cleanUpEmptyElements List of tags to remove if they are empty
+   * @param profilesParents      List of profiles tag parents
+   * @param squashMultilines     Whether multiple consecutive newlines should be squashed
+   */
+  public void cleanup(List<String> cleanUpEmptyElements, List<String> profilesParents, boolean squashMultilines) {
+    new JDomCleanup(cleanUpEmptyElements, profilesParents, squashMultilines).cleanup(document.getRootElement());
   }
 
   /**
@@ -219,75 +315,60 @@ public class JDomModelETL implements ModelETL {
         rootElement.setAttribute("schemaLocation", "http://maven.apache.org/POM/" + modelVersion
                 + " http://maven.apache.org/maven-v" + modelVersion.replace('.', '_') + ".xsd", xsiNamespace);
       }
-
-      // the empty namespace is considered equal to the POM namespace, so match them up to avoid extra xmlns=""
-      ElementFilter elementFilter = new ElementFilter(Namespace.getNamespace(""));
-      for (Iterator<?> i = rootElement.getDescendants(elementFilter); i.hasNext(); ) {
-        Element e = (Element) i.next();
-        e.setNamespace(pomNamespace);
-      }
     }
 
-    try (Writer writer = WriterFactory.newXmlWriter(pomFile)) {
-      if (intro != null) {
-        writer.write(intro);
-      }
+    JDomPomWriter pomWriter = JDomPomWriter.getInstance(modelETLRequest.getLineSeparator());
+    ElementSpans spans = ElementSpans.get(document);
+    if (spans != null && !modelETLRequest.isAddSchema()) {
+      pomWriter.writeIncrementally(pomFile, intro, rootElement, outtro, spans, JDomUtils.getModifiedElements(document));
+    } else {
+      // With schema, the descendants without namespace are moved to the POM namespace while they are written.
+      pomWriter.write(pomFile, intro, rootElement, outtro, modelETLRequest.isAddSchema());
+    }
+  }
 
-      printDocumentToWriter(document, writer, modelETLRequest.getLineSeparator());
+  /**
+   * Sets the cache used by {@link #extract(File)}.
+   *
+   * @param documentCache the cache, may be {@code null}.
+   */
+  void setDocumentCache(ModelETLDocumentCache documentCache) {
+    this.documentCache = documentCache;
+  }
 
-      if (outtro != null) {
-        writer.write(outtro);
-      }
-    }
+  void setModelETLRequest(ModelETLRequest modelETLRequest) {
+    this.modelETLRequest = modelETLRequest;
   }
 
-  private static void printDocumentToWriter(Document document, Writer writer, String lineSeparator) throws IOException {
-    Format format = Format.getRawFormat();
-    format.setLineSeparator(lineSeparator);
-    XMLOutputter out = new XMLOutputter(format);
-    out.output(document.getRootElement(), writer);
+  ModelETLRequest getModelETLRequest() {
+    return modelETLRequest;
   }
 
   /**
-   * Gets the string contents of the specified XML file. Note: In contrast to an XML processor, the line separators in
-   * the returned string will be normalized to use the platform's native line separator. This is basically to save
-   * another normalization step when writing the string contents back to an XML file.
-   * <p/>
-   * Method was copied from
-   * <a href="https://github.com/apache/maven-release/blob/9ea29a796d0e6191bebdf9accf4338fde541195d/maven-release-manager/src/main/java/org/apache/maven/shared/release/util/ReleaseUtil.java#L138">org.apache.maven.shared.release.util.ReleaseUtil#readXmlFile(java.io.File, java.lang.String)</a>
+   * Sets the builder to be used by {@link #extract(File)}. A {@link SAXBuilder} is not thread-safe, but it can be
+   * reused for several documents to save the parser setup.
    *
-   * @param file The path to the XML file to read in, must not be <code>null</code>.
-   * @param ls   The line separator to be used for normalization.
-   * @return The string contents of the XML file.
-   * @throws IOException If the file could not be opened/read.
+   * @param saxBuilder a builder created by {@link #newSAXBuilder(boolean, String)} for the line separator of the
+   *                   request, locating elements if the request enables
+   *                   {@link ModelETLRequest#setIncrementalSave(boolean) incremental saving}.
    */
-  private static String readXmlFile(File file, String ls) throws IOException {
-    try (Reader reader = ReaderFactory.newXmlReader(file)) {
-      return normalizeLineEndings(IOUtil.toString(reader), ls);
-    }
+  void setSAXBuilder(SAXBuilder saxBuilder) {
+    this.saxBuilder = saxBuilder;
   }
 
   /**
-   * Normalizes the line separators in the specified string.
-   * <p/>
-   * Method was copied from
-   * <a href="https://github.com/apache/maven-release/blob/9ea29a796d0e6191bebdf9accf4338fde541195d/maven-release-manager/src/main/java/org/apache/maven/shared/release/util/ReleaseUtil.java#L156">org.apache.maven.shared.release.util.ReleaseUtil#normalizeLineEndings(java.lang.String, java.lang.String)</a>
+   * Creates a new builder that is configured as required by {@link #extract(File)}.
    *
-   * @param text      The string to normalize, may be <code>null</code>.
-   * @param separator The line separator to use for normalization, typically "\n" or "\r\n", must not be
-   *                  <code>null</code>.
-   * @return The input string with normalized line separators or <code>null</code> if the string was <code>null</code>
-   * .
+   * @param locateElements whether the positions of all elements should be recorded, as required for
+   *                       {@link ModelETLRequest#setIncrementalSave(boolean) incremental saving}.
+   * @param lineSeparator  the line separator to be restored in comments and CDATA sections.
+   * @return the new builder.
    */
-  private static String normalizeLineEndings(String text, String separator) {
-    String norm = text;
-    if (text != null) {
-      norm = text.replaceAll("(\r\n)|(\n)|(\r)", separator);
-    }
-    return norm;
-  }
-
-  void setModelETLRequest(ModelETLRequest modelETLRequest) {
-    this.modelETLRequest = modelETLRequest;
+  static SAXBuilder newSAXBuilder(boolean locateElements, String lineSeparator) {
+    SAXBuilder builder = new SAXBuilder();
+    builder.setJDOMFactory(LineSeparatorJDOMFactory.getInstance(lineSeparator));
+    builder.setSAXHandlerFactory(locateElements
+            ? ElementLocatingSAXHandler.ELEMENT_LOCATING_FACTORY : ElementLocatingSAXHandler.FACTORY);
+    return builder;
   }
 }
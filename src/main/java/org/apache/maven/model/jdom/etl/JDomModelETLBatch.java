@@ -0,0 +1,154 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.input.SAXBuilder;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs extract, transform and load for many POM files in parallel on a bounded pool of worker threads.
+ * <p>
+ * Every POM is processed by its own {@link JDomModelETL}, created by the {@link JDomModelETLFactory} with the
+ * {@link ModelETLRequest} given to this batch. The {@link SAXBuilder SAXBuilders} are not shared between threads, but
+ * reused for all POMs that are processed by the same worker thread. Failures, including {@link Error Errors}, do not
+ * stop the batch; they are reported per file in the returned {@link ModelETLBatchResult}, which does not retain the
+ * models: each model can be garbage collected as soon as its POM has been written. To leave POMs untouched that were
+ * not modified by the transformation, use {@link ModelETLRequest#setSkipUnmodified(boolean)}.
+ */
+public class JDomModelETLBatch {
+
+  private final JDomModelETLFactory modelETLFactory = new JDomModelETLFactory();
+
+  private final ModelETLRequest modelETLRequest;
+
+  private final int threads;
+
+  private final ThreadLocal<SAXBuilder> saxBuilders;
+
+  /**
+   * Creates a batch that uses as many worker threads as processors are available.
+   *
+   * @param modelETLRequest the request used for all POMs, may be {@code null}.
+   */
+  public JDomModelETLBatch(ModelETLRequest modelETLRequest) {
+    this(modelETLRequest, Runtime.getRuntime().availableProcessors());
+  }
+
+  /**
+   * Creates a batch.
+   *
+   * @param modelETLRequest the request used for all POMs, may be {@code null}.
+   * @param threads         the maximum number of worker threads.
+   */
+  public JDomModelETLBatch(ModelETLRequest modelETLRequest, int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("At least one thread is required, but was " + threads);
+    }
+    this.modelETLRequest = modelETLRequest;
+    this.threads = threads;
+
+    ModelETLRequest request = modelETLRequest != null ? modelETLRequest : new ModelETLRequest();
+    boolean locateElements = request.isIncrementalSave();
+    String lineSeparator = request.getLineSeparator();
+    saxBuilders = ThreadLocal.withInitial(() -> JDomModelETL.newSAXBuilder(locateElements, lineSeparator));
+  }
+
+  /**
+   * Extracts, transforms and loads all given POM files. Each file is written back to where it was read from.
+   *
+   * @param pomFiles       the POM files to process.
+   * @param transformation the transformation applied to each extracted model.
+   * @return the per file results in the order of the given files.
+   * @throws InterruptedException if the calling thread is interrupted while waiting for the workers.
+   */
+  public ModelETLBatchResult run(Collection<File> pomFiles, Transformation transformation) throws InterruptedException {
+    List<Callable<ModelETLBatchResult.Entry>> tasks = new ArrayList<>(pomFiles.size());
+    for (File pomFile : pomFiles) {
+      tasks.add(() -> process(pomFile, transformation));
+    }
+
+    long start = System.nanoTime();
+    List<ModelETLBatchResult.Entry> entries = new ArrayList<>(tasks.size());
+    ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(threads, tasks.size())));
+    try {
+      for (Future<ModelETLBatchResult.Entry> future : executor.invokeAll(tasks)) {
+        try {
+          entries.add(future.get());
+        } catch (ExecutionException e) {
+          // process() catches everything, so this should not happen.
+          throw new IllegalStateException(e.getCause());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    return new ModelETLBatchResult(entries, System.nanoTime() - start);
+  }
+
+  private ModelETLBatchResult.Entry process(File pomFile, Transformation transformation) {
+    JDomModelETL modelETL = modelETLFactory.newInstance(modelETLRequest);
+    modelETL.setSAXBuilder(saxBuilders.get());
+
+    long extractNanos = 0;
+    long transformNanos = 0;
+    long loadNanos = 0;
+    long start = System.nanoTime();
+    try {
+      modelETL.extract(pomFile);
+      extractNanos = System.nanoTime() - start;
+
+      start = System.nanoTime();
+      transformation.transform(modelETL);
+      transformNanos = System.nanoTime() - start;
+
+      boolean modified = modelETL.isModified();
+      start = System.nanoTime();
+      modelETL.load(pomFile);
+      loadNanos = System.nanoTime() - start;
+
+      return new ModelETLBatchResult.Entry(pomFile, modified, null, extractNanos, transformNanos, loadNanos);
+    } catch (Throwable e) {
+      // Errors are recorded as well, so that a single failing POM or transformation does not abort the whole batch.
+      return new ModelETLBatchResult.Entry(pomFile, false, e, extractNanos, transformNanos, loadNanos);
+    }
+  }
+
+  /**
+   * The transformation that is applied to the model of each POM between extract and load.
+   */
+  @FunctionalInterface
+  public interface Transformation {
+
+    /**
+     * Transforms the model of a single POM. The model is available from {@link JDomModelETL#getModel()}. It is not
+     * retained after the POM has been written, so anything that is needed later has to be collected here.
+     *
+     * @param modelETL the ETL instance holding the extracted model.
+     * @throws Exception if the transformation fails; the POM is not written then.
+     */
+    void transform(JDomModelETL modelETL) throws Exception;
+  }
+}
@@ -29,12 +29,28 @@ public class JDomModelETLFactory implements ModelETLFactory {
 
   public static final String ROLE_HINT = "jdom-sax";
 
+  private ModelETLDocumentCache documentCache;
+
+  public ModelETLDocumentCache getDocumentCache() {
+    return documentCache;
+  }
+
+  /**
+   * Sets a cache for the documents extracted by the created ETLs (none by default).
+   *
+   * @param documentCache the cache, may be {@code null}.
+   */
+  public void setDocumentCache(ModelETLDocumentCache documentCache) {
+    this.documentCache = documentCache;
+  }
+
   @Override
   public JDomModelETL newInstance(ModelETLRequest request) {
     JDomModelETL result = new JDomModelETL();
     if (request != null) {
       result.setModelETLRequest(request);
     }
+    result.setDocumentCache(documentCache);
     return result;
   }
 }
@@ -0,0 +1,324 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.CDATA;
+import org.jdom2.Comment;
+import org.jdom2.Content;
+import org.jdom2.Element;
+import org.jdom2.EntityRef;
+import org.jdom2.ProcessingInstruction;
+import org.jdom2.Text;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+import org.jdom2.output.support.AbstractXMLOutputProcessor;
+import org.jdom2.output.support.FormatStack;
+import org.jdom2.util.NamespaceStack;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes POM documents to files. The {@link XMLOutputter XMLOutputters} are shared by all writers using the same
+ * line separator and the {@link CharsetEncoder CharsetEncoders} are reused per thread. The root element is streamed
+ * through a buffer directly to a {@link FileChannel}.
+ * <p>
+ * Like {@link org.codehaus.plexus.util.WriterFactory#newXmlWriter(File)}, the encoding is taken from the XML declaration
+ * at the beginning of the intro, defaulting to UTF-8. Characters that can not be encoded are replaced.
+ * <p>
+ * POMs can also be {@link #writeIncrementally(File, String, Element, String, ElementSpans, Set) written
+ * incrementally}: only the modified elements are serialized, everything else is copied from the source.
+ */
+final class JDomPomWriter {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  /**
+   * The same pattern as used by {@link org.codehaus.plexus.util.xml.XmlStreamWriter}.
+   */
+  private static final Pattern ENCODING_PATTERN =
+          Pattern.compile("<\\?xml.*encoding[\\s]*=[\\s]*((?:\".[^\"]*\")|(?:'.[^']*'))", Pattern.MULTILINE);
+
+  private static final ConcurrentMap<String, JDomPomWriter> WRITERS = new ConcurrentHashMap<>();
+
+  private static final ThreadLocal<Map<Charset, CharsetEncoder>> ENCODERS = ThreadLocal.withInitial(HashMap::new);
+
+  private final Format format;
+
+  private final XMLOutputter outputter;
+
+  private final XMLOutputter pomNamespaceOutputter;
+
+  private JDomPomWriter(String lineSeparator) {
+    format = Format.getRawFormat();
+    format.setLineSeparator(lineSeparator);
+    outputter = new XMLOutputter(format);
+    pomNamespaceOutputter = new XMLOutputter(format, new PomNamespaceOutputProcessor());
+  }
+
+  /**
+   * Returns the writer for the given line separator.
+   *
+   * @param lineSeparator the line separator.
+   * @return the writer.
+   */
+  static JDomPomWriter getInstance(String lineSeparator) {
+    return WRITERS.computeIfAbsent(lineSeparator, JDomPomWriter::new);
+  }
+
+  /**
+   * Writes a POM file.
+   *
+   * @param pomFile              the file to be written.
+   * @param intro                the text before the root element, may be {@code null}.
+   * @param rootElement          the root element.
+   * @param outtro               the text after the root element, may be {@code null}.
+   * @param adoptRootNamespace   whether descendants of the root element without namespace should be moved to the
+   *                             namespace of the root element while they are written, to avoid extra {@code xmlns=""}.
+   * @throws IOException if the file can not be written.
+   */
+  void write(File pomFile, String intro, Element rootElement, String outtro, boolean adoptRootNamespace)
+          throws IOException {
+    try (Writer writer = newWriter(pomFile, intro)) {
+      if (intro != null) {
+        writer.write(intro);
+      }
+
+      (adoptRootNamespace ? pomNamespaceOutputter : outputter).output(rootElement, writer);
+
+      if (outtro != null) {
+        writer.write(outtro);
+      }
+    }
+  }
+
+  /**
+   * Writes a POM file, copying the unmodified elements from the source the document was built from. The start and end
+   * tags of modified elements are copied as well (attributes are not tracked), only their content is serialized.
+   * Elements that are neither in the source nor modified themselves, e.g. added elements, are serialized completely.
+   *
+   * @param pomFile          the file to be written.
+   * @param intro            the text before the root element, may be {@code null}.
+   * @param rootElement      the root element.
+   * @param outtro           the text after the root element, may be {@code null}.
+   * @param spans            the regions of the elements in the source.
+   * @param modifiedElements the elements whose content was modified
+   *                         (see {@link org.apache.maven.model.jdom.util.JDomUtils#getModifiedElements(org.jdom2.Document)}).
+   * @throws IOException if the file can not be written.
+   */
+  void writeIncrementally(File pomFile, String intro, Element rootElement, String outtro, ElementSpans spans,
+                          Set<Element> modifiedElements) throws IOException {
+    try (Writer writer = newWriter(pomFile, intro)) {
+      if (intro != null) {
+        writer.write(intro);
+      }
+
+      new IncrementalOutputProcessor(spans, modifiedElements).process(writer, format, rootElement);
+
+      if (outtro != null) {
+        writer.write(outtro);
+      }
+    }
+  }
+
+  private static Writer newWriter(File pomFile, String intro) throws IOException {
+    CharsetEncoder encoder = getEncoder(detectEncoding(intro));
+    FileChannel channel = FileChannel.open(pomFile.toPath(),
+            StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    return new BufferedWriter(Channels.newWriter(channel, encoder, BUFFER_SIZE), BUFFER_SIZE);
+  }
+
+  private static String detectEncoding(String intro) throws UnsupportedEncodingException {
+    if (intro != null && intro.startsWith("<?xml")) {
+      int declarationEnd = intro.indexOf("?>");
+      if (declarationEnd > 0) {
+        Matcher matcher = ENCODING_PATTERN.matcher(intro.substring(0, declarationEnd));
+        if (matcher.find()) {
+          String encoding = matcher.group(1).toUpperCase();
+          return encoding.substring(1, encoding.length() - 1);
+        }
+      }
+    }
+    return StandardCharsets.UTF_8.name();
+  }
+
+  private static CharsetEncoder getEncoder(String encoding) throws UnsupportedEncodingException {
+    Charset charset;
+    try {
+      charset = Charset.forName(encoding);
+    } catch (IllegalArgumentException e) {
+      throw new UnsupportedEncodingException(encoding);
+    }
+    CharsetEncoder encoder = ENCODERS.get().computeIfAbsent(charset, c -> c.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE));
+    return encoder.reset();
+  }
+
+  /**
+   * Moves elements without namespace to the namespace of the root element right before they are written. The empty
+   * namespace is considered equal to the POM namespace, so this matches them up without walking the tree in advance.
+   */
+  private static final class PomNamespaceOutputProcessor extends AbstractXMLOutputProcessor {
+
+    @Override
+    protected void printElement(Writer out, FormatStack fstack, NamespaceStack nstack, Element element)
+            throws IOException {
+      if (element.getNamespaceURI().isEmpty() && !element.isRootElement()) {
+        Element root = element;
+        while (root.getParentElement() != null) {
+          root = root.getParentElement();
+        }
+        element.setNamespace(root.getNamespace());
+      }
+      super.printElement(out, fstack, nstack, element);
+    }
+  }
+
+  /**
+   * Copies unmodified elements from the source and serializes the rest. Modified elements and their ancestors are
+   * walked down; the text between their child elements is copied unless the element itself was modified.
+   */
+  private static final class IncrementalOutputProcessor extends AbstractXMLOutputProcessor {
+
+    private final ElementSpans spans;
+    private final String source;
+    private final Set<Element> modifiedElements;
+    private final Set<Element> modifiedAncestors = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private IncrementalOutputProcessor(ElementSpans spans, Set<Element> modifiedElements) {
+      this.spans = spans;
+      this.source = spans.getSource();
+      this.modifiedElements = modifiedElements;
+      for (Element element : modifiedElements) {
+        for (Element parent = element.getParentElement(); parent != null; parent = parent.getParentElement()) {
+          if (!modifiedAncestors.add(parent)) {
+            break;
+          }
+        }
+      }
+    }
+
+    @Override
+    public void process(Writer out, Format format, Element element) throws IOException {
+      printElementIncrementally(out, new FormatStack(format), new NamespaceStack(), element);
+    }
+
+    private void printElementIncrementally(Writer out, FormatStack fstack, NamespaceStack nstack, Element element)
+            throws IOException {
+      int[] span = spans.getSpan(element);
+      boolean modified = modifiedElements.contains(element);
+      if (span == null || modified && span[ElementSpans.START_TAG_END] == span[ElementSpans.END]) {
+        printElement(out, fstack, nstack, element);
+        return;
+      }
+      if (!modified && !modifiedAncestors.contains(element)) {
+        copy(out, span[ElementSpans.START], span[ElementSpans.END]);
+        return;
+      }
+
+      nstack.push(element);
+      try {
+        copy(out, span[ElementSpans.START], span[ElementSpans.START_TAG_END]);
+        List<Content> contents = element.getContent();
+        if (modified || !hasChildElementsInSourceOrder(contents, span)) {
+          for (Content content : contents) {
+            printContent(out, fstack, nstack, content);
+          }
+        } else {
+          int offset = span[ElementSpans.START_TAG_END];
+          for (Content content : contents) {
+            if (content instanceof Element) {
+              int[] childSpan = spans.getSpan((Element) content);
+              copy(out, offset, childSpan[ElementSpans.START]);
+              printElementIncrementally(out, fstack, nstack, (Element) content);
+              offset = childSpan[ElementSpans.END];
+            }
+          }
+          copy(out, offset, span[ElementSpans.END_TAG_START]);
+        }
+        copy(out, span[ElementSpans.END_TAG_START], span[ElementSpans.END]);
+      } finally {
+        nstack.pop();
+      }
+    }
+
+    private void printContent(Writer out, FormatStack fstack, NamespaceStack nstack, Content content)
+            throws IOException {
+      switch (content.getCType()) {
+        case Element:
+          printElementIncrementally(out, fstack, nstack, (Element) content);
+          break;
+        case Text:
+          printText(out, fstack, (Text) content);
+          break;
+        case CDATA:
+          printCDATA(out, fstack, (CDATA) content);
+          break;
+        case Comment:
+          printComment(out, fstack, (Comment) content);
+          break;
+        case ProcessingInstruction:
+          printProcessingInstruction(out, fstack, (ProcessingInstruction) content);
+          break;
+        case EntityRef:
+          printEntityRef(out, fstack, (EntityRef) content);
+          break;
+        default:
+          throw new IllegalStateException("Unexpected content: " + content);
+      }
+    }
+
+    private boolean hasChildElementsInSourceOrder(List<Content> contents, int[] span) {
+      int offset = span[ElementSpans.START_TAG_END];
+      for (Content content : contents) {
+        if (content instanceof Element) {
+          int[] childSpan = spans.getSpan((Element) content);
+          if (childSpan == null || childSpan[ElementSpans.START] < offset) {
+            return false;
+          }
+          offset = childSpan[ElementSpans.END];
+        }
+      }
+      return offset <= span[ElementSpans.END_TAG_START];
+    }
+
+    private void copy(Writer out, int start, int end) throws IOException {
+      out.write(source, start, end - start);
+    }
+  }
+}
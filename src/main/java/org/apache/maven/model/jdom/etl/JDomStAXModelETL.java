@@ -0,0 +1,78 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Document;
+import org.jdom2.JDOMException;
+import org.jdom2.input.StAXStreamBuilder;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.StringReader;
+
+/**
+ * JDom implementation for extracting, transform, loading the Model (pom.xml) that builds the document from a StAX
+ * stream reader instead of SAX events.
+ * <p>
+ * The StAX implementation is taken from the {@link XMLInputFactory} given to the {@link JDomStAXModelETLFactory}, so
+ * faster parsers like Woodstox or Aalto can be used. The text before and after the root element (XML declaration,
+ * DOCTYPE, comments, processing instructions and whitespace) is taken from the source as it is, by skipping these
+ * constructs from the beginning and the end of the source.
+ * <p>
+ * The positions of the elements are not recorded, so {@link ModelETLRequest#setIncrementalSave(boolean) incremental
+ * saving} is not supported: the model is always saved completely.
+ */
+public class JDomStAXModelETL extends JDomModelETL {
+
+  private final XMLInputFactory inputFactory;
+
+  JDomStAXModelETL(XMLInputFactory inputFactory) {
+    this.inputFactory = inputFactory;
+  }
+
+  @Override
+  Document build(String content) throws JDOMException {
+    Document document;
+    XMLStreamReader reader = null;
+    try {
+      reader = inputFactory.createXMLStreamReader(new StringReader(content));
+      StAXStreamBuilder builder = new StAXStreamBuilder();
+      builder.setFactory(LineSeparatorJDOMFactory.getInstance(getModelETLRequest().getLineSeparator()));
+      document = builder.build(reader);
+    } catch (XMLStreamException e) {
+      throw new JDOMException(e.getMessage(), e);
+    } finally {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (XMLStreamException ignored) {
+          // The reader does not hold any resources besides the string reader.
+        }
+      }
+    }
+
+    setIntroAndOuttro(content, PomSourceLexer.getRootElementStartOffset(content),
+            PomSourceLexer.getRootElementEndOffset(content));
+    return document;
+  }
+
+  @Override
+  JDomModelETL newFork() {
+    return new JDomStAXModelETL(inputFactory);
+  }
+}
@@ -0,0 +1,85 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.codehaus.plexus.component.annotations.Component;
+
+import javax.xml.stream.XMLInputFactory;
+
+/**
+ * Creates {@link JDomStAXModelETL JDomStAXModelETLs}. By default, the StAX implementation is looked up with
+ * {@link XMLInputFactory#newFactory()}, which picks up Woodstox or Aalto when they are on the classpath.
+ */
+@Component(role = ModelETLFactory.class, hint = JDomStAXModelETLFactory.ROLE_HINT)
+public class JDomStAXModelETLFactory implements ModelETLFactory {
+
+  public static final String ROLE_HINT = "jdom-stax";
+
+  /**
+   * Makes the StAX implementation of the JDK report CDATA sections instead of merging them into the surrounding text.
+   */
+  private static final String REPORT_CDATA_EVENT = "http://java.sun.com/xml/stream/properties/report-cdata-event";
+
+  private final XMLInputFactory inputFactory;
+
+  private ModelETLDocumentCache documentCache;
+
+  public JDomStAXModelETLFactory() {
+    this(XMLInputFactory.newFactory());
+  }
+
+  /**
+   * Creates a factory using the given StAX implementation. The input factory is reconfigured in place to be namespace
+   * aware, to report CDATA sections and to neither coalesce text nor resolve external entities. It is taken over by
+   * this factory: the caller must neither reconfigure it nor rely on its previous configuration afterwards, so a
+   * factory that is shared with other code should not be passed in.
+   *
+   * @param inputFactory the StAX implementation.
+   */
+  public JDomStAXModelETLFactory(XMLInputFactory inputFactory) {
+    inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    inputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    if (inputFactory.isPropertySupported(REPORT_CDATA_EVENT)) {
+      inputFactory.setProperty(REPORT_CDATA_EVENT, true);
+    }
+    this.inputFactory = inputFactory;
+  }
+
+  public ModelETLDocumentCache getDocumentCache() {
+    return documentCache;
+  }
+
+  /**
+   * Sets a cache for the documents extracted by the created ETLs (none by default).
+   *
+   * @param documentCache the cache, may be {@code null}.
+   */
+  public void setDocumentCache(ModelETLDocumentCache documentCache) {
+    this.documentCache = documentCache;
+  }
+
+  @Override
+  public JDomStAXModelETL newInstance(ModelETLRequest request) {
+    JDomStAXModelETL result = new JDomStAXModelETL(inputFactory);
+    if (request != null) {
+      result.setModelETLRequest(request);
+    }
+    result.setDocumentCache(documentCache);
+    return result;
+  }
+}
@@ -0,0 +1,61 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.CDATA;
+import org.jdom2.Comment;
+import org.jdom2.DefaultJDOMFactory;
+import org.jdom2.JDOMFactory;
+
+/**
+ * Restores the line separator in comments and CDATA sections while they are created. XML processors normalize line
+ * separators to {@code "\n"} (see section 2.11 of the XML spec), but these are written back as they are.
+ */
+final class LineSeparatorJDOMFactory extends DefaultJDOMFactory {
+
+  private static final JDOMFactory DEFAULT = new DefaultJDOMFactory();
+
+  private final String lineSeparator;
+
+  private LineSeparatorJDOMFactory(String lineSeparator) {
+    this.lineSeparator = lineSeparator;
+  }
+
+  /**
+   * Returns a factory for the given line separator.
+   *
+   * @param lineSeparator the line separator.
+   * @return the factory, a plain {@link DefaultJDOMFactory} if the line separator is {@code "\n"}.
+   */
+  static JDOMFactory getInstance(String lineSeparator) {
+    return "\n".equals(lineSeparator) ? DEFAULT : new LineSeparatorJDOMFactory(lineSeparator);
+  }
+
+  @Override
+  public CDATA cdata(int line, int col, String text) {
+    return super.cdata(line, col, restoreLineSeparators(text));
+  }
+
+  @Override
+  public Comment comment(int line, int col, String text) {
+    return super.comment(line, col, restoreLineSeparators(text));
+  }
+
+  private String restoreLineSeparators(String text) {
+    return text.indexOf('\n') < 0 ? text : text.replace("\n", lineSeparator);
+  }
+}
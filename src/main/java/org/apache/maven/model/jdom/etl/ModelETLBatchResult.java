@@ -0,0 +1,207 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a {@link JDomModelETLBatch} run: one {@link Entry} per POM file plus throughput figures.
+ */
+public class ModelETLBatchResult {
+
+  private final List<Entry> entries;
+
+  private final long elapsedNanos;
+
+  ModelETLBatchResult(List<Entry> entries, long elapsedNanos) {
+    this.entries = Collections.unmodifiableList(entries);
+    this.elapsedNanos = elapsedNanos;
+  }
+
+  /**
+   * Returns the results of all processed POM files, in the order the files were passed to the batch.
+   *
+   * @return the per file results.
+   */
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  /**
+   * Returns the results of all POM files that could not be processed.
+   *
+   * @return the failed results.
+   */
+  public List<Entry> getFailures() {
+    List<Entry> failures = new ArrayList<>();
+    for (Entry entry : entries) {
+      if (!entry.isSuccess()) {
+        failures.add(entry);
+      }
+    }
+    return failures;
+  }
+
+  public int getSuccessCount() {
+    return entries.size() - getFailures().size();
+  }
+
+  /**
+   * Returns the number of POM files whose models were modified by the transformation.
+   *
+   * @return the number of modified POMs.
+   */
+  public int getModifiedCount() {
+    int modified = 0;
+    for (Entry entry : entries) {
+      if (entry.isModified()) {
+        modified++;
+      }
+    }
+    return modified;
+  }
+
+  /**
+   * Returns the wall clock time of the whole batch.
+   *
+   * @param unit the time unit of the result.
+   * @return the elapsed time.
+   */
+  public long getElapsedTime(TimeUnit unit) {
+    return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the number of processed POM files per second of wall clock time.
+   *
+   * @return the throughput.
+   */
+  public double getFilesPerSecond() {
+    return elapsedNanos == 0 ? 0 : entries.size() * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+  }
+
+  /**
+   * Returns the time spent in the given phase, summed up over all POM files and worker threads.
+   *
+   * @param phase the phase.
+   * @param unit  the time unit of the result.
+   * @return the accumulated time.
+   */
+  public long getPhaseTime(Phase phase, TimeUnit unit) {
+    long nanos = 0;
+    for (Entry entry : entries) {
+      nanos += entry.getPhaseNanos(phase);
+    }
+    return unit.convert(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public String toString() {
+    return "ModelETLBatchResult{" +
+            "files=" + entries.size() +
+            ", failures=" + getFailures().size() +
+            ", modified=" + getModifiedCount() +
+            ", elapsedMillis=" + getElapsedTime(TimeUnit.MILLISECONDS) +
+            ", filesPerSecond=" + String.format("%.1f", getFilesPerSecond()) +
+            ", extractMillis=" + getPhaseTime(Phase.EXTRACT, TimeUnit.MILLISECONDS) +
+            ", transformMillis=" + getPhaseTime(Phase.TRANSFORM, TimeUnit.MILLISECONDS) +
+            ", loadMillis=" + getPhaseTime(Phase.LOAD, TimeUnit.MILLISECONDS) +
+            '}';
+  }
+
+  /**
+   * The phases of processing a single POM file.
+   */
+  public enum Phase {
+    EXTRACT, TRANSFORM, LOAD
+  }
+
+  /**
+   * The result of processing a single POM file. The model is not retained, so that the parsed documents can be garbage
+   * collected while the batch is still running. Results that are needed from the model have to be collected by the
+   * {@link JDomModelETLBatch.Transformation transformation}.
+   */
+  public static class Entry {
+
+    private final File pomFile;
+    private final boolean modified;
+    private final Throwable exception;
+    private final long extractNanos;
+    private final long transformNanos;
+    private final long loadNanos;
+
+    Entry(File pomFile, boolean modified, Throwable exception, long extractNanos, long transformNanos,
+          long loadNanos) {
+      this.pomFile = pomFile;
+      this.modified = modified;
+      this.exception = exception;
+      this.extractNanos = extractNanos;
+      this.transformNanos = transformNanos;
+      this.loadNanos = loadNanos;
+    }
+
+    public File getPomFile() {
+      return pomFile;
+    }
+
+    /**
+     * Returns the error that occurred while processing the POM file. Besides exceptions, this may be an {@link Error}
+     * thrown by the transformation, e.g. a failed assertion.
+     *
+     * @return the error or {@code null} if the POM file was processed successfully.
+     */
+    public Throwable getException() {
+      return exception;
+    }
+
+    /**
+     * Returns whether the model was modified by the transformation.
+     *
+     * @return {@code true} if the POM was processed successfully and its model was modified.
+     */
+    public boolean isModified() {
+      return modified;
+    }
+
+    public boolean isSuccess() {
+      return exception == null;
+    }
+
+    long getPhaseNanos(Phase phase) {
+      switch (phase) {
+        case EXTRACT:
+          return extractNanos;
+        case TRANSFORM:
+          return transformNanos;
+        default:
+          return loadNanos;
+      }
+    }
+
+    @Override
+    public String toString() {
+      return "Entry{" +
+              "pomFile=" + pomFile +
+              ", exception=" + exception +
+              '}';
+    }
+  }
+}
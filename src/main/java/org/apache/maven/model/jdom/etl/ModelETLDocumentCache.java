@@ -0,0 +1,229 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.util.JDomUtils;
+import org.jdom2.Document;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of parsed POM documents that can be shared by the {@link JDomModelETL JDomModelETLs} of a factory
+ * (see {@link JDomModelETLFactory#setDocumentCache(ModelETLDocumentCache)}), to avoid parsing the same POM again in
+ * pipelines that extract it several times.
+ * <p>
+ * Documents are cached by the canonical path of the POM file and the request settings that affect parsing. A cached
+ * document is only used as long as the size, the modification time and the checksum of the file have not changed.
+ * Each extraction gets its own deep copy of the cached document, so modifications never leak into the cache.
+ * <p>
+ * The least recently used documents are evicted when the approximate size of all cached documents exceeds the
+ * configured maximum. The size of a document is estimated from the length of its source. This class is thread-safe.
+ */
+public class ModelETLDocumentCache {
+
+  /**
+   * The approximate number of bytes that a parsed document takes per character of its source, including the source
+   * itself.
+   */
+  static final int BYTES_PER_SOURCE_CHAR = 12;
+
+  private final long maxSize;
+
+  private final Map<String, CachedDocument> documents = new LinkedHashMap<>(16, 0.75f, true);
+
+  private long size;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * Creates a cache.
+   *
+   * @param maxSize the maximum approximate size of all cached documents in bytes.
+   */
+  public ModelETLDocumentCache(long maxSize) {
+    if (maxSize < 0) {
+      throw new IllegalArgumentException("The maximum size must not be negative, but was " + maxSize);
+    }
+    this.maxSize = maxSize;
+  }
+
+  /**
+   * Returns a copy of a cached document.
+   *
+   * @param key          the key of the document.
+   * @param fileSize     the current size of the POM file.
+   * @param lastModified the current modification time of the POM file.
+   * @param checksum     the current checksum of the POM file.
+   * @return the copy or {@code null} if the document is not cached or the POM file has changed.
+   */
+  CachedDocument get(String key, long fileSize, long lastModified, long checksum) {
+    CachedDocument cached;
+    synchronized (this) {
+      cached = documents.get(key);
+      if (cached == null || cached.fileSize != fileSize || cached.lastModified != lastModified
+              || cached.checksum != checksum) {
+        missCount++;
+        return null;
+      }
+      hitCount++;
+    }
+    // The cached documents are never modified, so they can be copied concurrently.
+    return cached.copy();
+  }
+
+  /**
+   * Caches a copy of a document.
+   *
+   * @param key          the key of the document.
+   * @param fileSize     the size of the POM file.
+   * @param lastModified the modification time of the POM file.
+   * @param checksum     the checksum of the POM file.
+   * @param document     the document.
+   * @param source       the source the document was built from.
+   * @param intro        the text before the root element, may be {@code null}.
+   * @param outtro       the text after the root element, may be {@code null}.
+   */
+  void put(String key, long fileSize, long lastModified, long checksum,
+           Document document, String source, String intro, String outtro) {
+    CachedDocument cached = new CachedDocument(fileSize, lastModified, checksum, document, source, intro, outtro)
+            .copy();
+    if (cached.getSize() > maxSize) {
+      return;
+    }
+    synchronized (this) {
+      CachedDocument previous = documents.put(key, cached);
+      if (previous != null) {
+        size -= previous.getSize();
+      }
+      size += cached.getSize();
+
+      Iterator<CachedDocument> iterator = documents.values().iterator();
+      while (size > maxSize && iterator.hasNext()) {
+        size -= iterator.next().getSize();
+        iterator.remove();
+        evictionCount++;
+      }
+    }
+  }
+
+  /**
+   * Removes all cached documents. The statistics are kept.
+   */
+  public synchronized void clear() {
+    documents.clear();
+    size = 0;
+  }
+
+  /**
+   * @return the number of cached documents.
+   */
+  public synchronized int getDocumentCount() {
+    return documents.size();
+  }
+
+  /**
+   * @return the approximate size of all cached documents in bytes.
+   */
+  public synchronized long getSize() {
+    return size;
+  }
+
+  public long getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return the number of extractions that used a cached document.
+   */
+  public synchronized long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * @return the number of extractions that had to parse the POM file.
+   */
+  public synchronized long getMissCount() {
+    return missCount;
+  }
+
+  /**
+   * @return the number of documents that have been evicted to stay within the maximum size.
+   */
+  public synchronized long getEvictionCount() {
+    return evictionCount;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return "ModelETLDocumentCache{documents=" + documents.size() + ", size=" + size + ", maxSize=" + maxSize
+            + ", hits=" + hitCount + ", misses=" + missCount + ", evictions=" + evictionCount + '}';
+  }
+
+  /**
+   * A parsed document with the text before and after its root element.
+   */
+  static final class CachedDocument {
+
+    private final long fileSize;
+    private final long lastModified;
+    private final long checksum;
+    private final Document document;
+    private final String source;
+    private final String intro;
+    private final String outtro;
+
+    private CachedDocument(long fileSize, long lastModified, long checksum,
+                           Document document, String source, String intro, String outtro) {
+      this.fileSize = fileSize;
+      this.lastModified = lastModified;
+      this.checksum = checksum;
+      this.document = document;
+      this.source = source;
+      this.intro = intro;
+      this.outtro = outtro;
+    }
+
+    Document getDocument() {
+      return document;
+    }
+
+    String getSource() {
+      return source;
+    }
+
+    String getIntro() {
+      return intro;
+    }
+
+    String getOuttro() {
+      return outtro;
+    }
+
+    private long getSize() {
+      return (long) source.length() * BYTES_PER_SOURCE_CHAR;
+    }
+
+    private CachedDocument copy() {
+      Document copy = JDomUtils.copyDocument(document);
+      ElementSpans.copy(document, copy);
+      return new CachedDocument(fileSize, lastModified, checksum, copy, source, intro, outtro);
+    }
+  }
+}
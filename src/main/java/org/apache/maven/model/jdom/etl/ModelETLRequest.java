@@ -40,6 +40,9 @@ public class ModelETLRequest {
   public static final String CLASSIC_MAC_LS = "\r";
 
   private boolean addSchema;
+  private boolean indexChildElements = true;
+  private boolean skipUnmodified;
+  private boolean incrementalSave;
   private String lineSeparator = System.getProperty("line.separator");
 
   public boolean isAddSchema() {
@@ -50,6 +53,57 @@ public class ModelETLRequest {
     this.addSchema = addSchema;
   }
 
+  public boolean isIndexChildElements() {
+    return indexChildElements;
+  }
+
+  /**
+   * Enables or disables the indexing of child elements by name in the extracted document (enabled by default). The
+   * index speeds up the lookup of child elements in large POMs, e.g. of properties or plugins, but takes some memory.
+   *
+   * @param indexChildElements whether child elements should be indexed.
+   * @see org.apache.maven.model.jdom.util.JDomUtils#indexChildElements(org.jdom2.Document)
+   */
+  public void setIndexChildElements(boolean indexChildElements) {
+    this.indexChildElements = indexChildElements;
+  }
+
+  public boolean isSkipUnmodified() {
+    return skipUnmodified;
+  }
+
+  /**
+   * Enables or disables skipping the load of unmodified models (disabled by default). When enabled, a model that was
+   * not modified after it was extracted is not written back to the file it was extracted from, which leaves the file
+   * untouched. Other target files are always written.
+   *
+   * @param skipUnmodified whether unmodified models should not be written back.
+   * @see JDomModelETL#isModified()
+   */
+  public void setSkipUnmodified(boolean skipUnmodified) {
+    this.skipUnmodified = skipUnmodified;
+  }
+
+  public boolean isIncrementalSave() {
+    return incrementalSave;
+  }
+
+  /**
+   * Enables or disables incremental saving (disabled by default). When enabled, the source of a POM is kept in memory
+   * after it was extracted and only the elements that have been modified are serialized again when the model is
+   * loaded. Everything else, including formatting that would otherwise be normalized (like {@code <a/>} or escaped
+   * characters), is copied unchanged from the source.
+   * <p>
+   * Modifications must be tracked (see {@link org.apache.maven.model.jdom.util.JDomUtils#markModified(org.jdom2.Content)}):
+   * changes made to the JDOM tree directly, without marking them, are lost. Incremental saving is not used when the
+   * schema is {@link #setAddSchema(boolean) added} and not supported by the {@link JDomStAXModelETL}.
+   *
+   * @param incrementalSave whether models should be saved incrementally.
+   */
+  public void setIncrementalSave(boolean incrementalSave) {
+    this.incrementalSave = incrementalSave;
+  }
+
   public String getLineSeparator() {
     return lineSeparator;
   }
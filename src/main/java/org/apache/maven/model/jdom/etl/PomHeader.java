@@ -0,0 +1,293 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.jdom.MavenCoordinate;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ARTIFACT_ID;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_GROUP_ID;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_MODULE;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_MODULES;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PACKAGING;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PARENT;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_VERSION;
+
+/**
+ * The coordinates, parent and modules of a POM, read without building a JDOM tree (see {@link #peek(File)}).
+ * <p>
+ * The values are taken as they are written in the POM, like {@link org.apache.maven.model.Model#getGroupId()}: they
+ * are neither inherited from the parent nor interpolated. The header is immutable, so the setters throw an
+ * {@link UnsupportedOperationException}.
+ */
+public final class PomHeader implements MavenCoordinate {
+
+  private static final XMLInputFactory INPUT_FACTORY = newInputFactory();
+
+  private final Coordinate coordinate;
+  private final String packaging;
+  private final Coordinate parent;
+  private final List<String> modules;
+
+  private PomHeader(Coordinate coordinate, String packaging, Coordinate parent, List<String> modules) {
+    this.coordinate = coordinate;
+    this.packaging = packaging;
+    this.parent = parent;
+    this.modules = Collections.unmodifiableList(modules);
+  }
+
+  /**
+   * Reads the header of the given POM file. The file is streamed and parsing stops as soon as the header is complete.
+   * All other elements (dependencies, build, profiles etc.) are skipped without being read, so header elements that
+   * are placed after them are still seen.
+   *
+   * @param pomFile the POM file.
+   * @return the header.
+   * @throws IOException        if the file can not be read.
+   * @throws XMLStreamException if the file is not well-formed up to the end of the header.
+   */
+  public static PomHeader peek(File pomFile) throws IOException, XMLStreamException {
+    try (InputStream in = new BufferedInputStream(new FileInputStream(pomFile))) {
+      XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(in);
+      try {
+        return read(reader);
+      } finally {
+        reader.close();
+      }
+    }
+  }
+
+  private static PomHeader read(XMLStreamReader reader) throws XMLStreamException {
+    nextTag(reader);
+
+    String groupId = null;
+    String artifactId = null;
+    String version = null;
+    String packaging = null;
+    Coordinate parent = null;
+    List<String> modules = null;
+    while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+      String name = reader.getLocalName();
+      if (POM_ELEMENT_GROUP_ID.equals(name)) {
+        groupId = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_ARTIFACT_ID.equals(name)) {
+        artifactId = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_VERSION.equals(name)) {
+        version = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_PACKAGING.equals(name)) {
+        packaging = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_PARENT.equals(name)) {
+        parent = readParent(reader);
+      } else if (POM_ELEMENT_MODULES.equals(name)) {
+        modules = readModules(reader);
+      } else {
+        skipElement(reader);
+      }
+
+      if (groupId != null && artifactId != null && version != null && packaging != null && parent != null
+              && modules != null) {
+        break;
+      }
+    }
+    return new PomHeader(new Coordinate(groupId, artifactId, version), packaging, parent,
+            modules != null ? modules : new ArrayList<>());
+  }
+
+  private static Coordinate readParent(XMLStreamReader reader) throws XMLStreamException {
+    String groupId = null;
+    String artifactId = null;
+    String version = null;
+    while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+      String name = reader.getLocalName();
+      if (POM_ELEMENT_GROUP_ID.equals(name)) {
+        groupId = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_ARTIFACT_ID.equals(name)) {
+        artifactId = getElementTextTrim(reader);
+      } else if (POM_ELEMENT_VERSION.equals(name)) {
+        version = getElementTextTrim(reader);
+      } else {
+        skipElement(reader);
+      }
+    }
+    return new Coordinate(groupId, artifactId, version);
+  }
+
+  private static List<String> readModules(XMLStreamReader reader) throws XMLStreamException {
+    List<String> modules = new ArrayList<>();
+    while (nextTag(reader) == XMLStreamConstants.START_ELEMENT) {
+      if (POM_ELEMENT_MODULE.equals(reader.getLocalName())) {
+        modules.add(getElementTextTrim(reader));
+      } else {
+        skipElement(reader);
+      }
+    }
+    return modules;
+  }
+
+  /**
+   * Advances to the next start or end tag, skipping all other events. Unlike {@link XMLStreamReader#nextTag()}, this
+   * also skips a DOCTYPE declaration before the root element.
+   *
+   * @return the event type of the tag.
+   */
+  private static int nextTag(XMLStreamReader reader) throws XMLStreamException {
+    int event = reader.next();
+    while (event != XMLStreamConstants.START_ELEMENT && event != XMLStreamConstants.END_ELEMENT) {
+      if (event == XMLStreamConstants.END_DOCUMENT) {
+        throw new XMLStreamException("Unexpected end of document", reader.getLocation());
+      }
+      event = reader.next();
+    }
+    return event;
+  }
+
+  private static String getElementTextTrim(XMLStreamReader reader) throws XMLStreamException {
+    return reader.getElementText().trim();
+  }
+
+  private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+    int depth = 1;
+    while (depth > 0) {
+      int event = reader.next();
+      if (event == XMLStreamConstants.START_ELEMENT) {
+        depth++;
+      } else if (event == XMLStreamConstants.END_ELEMENT) {
+        depth--;
+      }
+    }
+  }
+
+  private static XMLInputFactory newInputFactory() {
+    XMLInputFactory inputFactory = XMLInputFactory.newFactory();
+    inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    return inputFactory;
+  }
+
+  @Override
+  public String getGroupId() {
+    return coordinate.getGroupId();
+  }
+
+  @Override
+  public void setGroupId(String groupId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getArtifactId() {
+    return coordinate.getArtifactId();
+  }
+
+  @Override
+  public void setArtifactId(String artifactId) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String getVersion() {
+    return coordinate.getVersion();
+  }
+
+  @Override
+  public void setVersion(String version) {
+    throw new UnsupportedOperationException();
+  }
+
+  public String getPackaging() {
+    return packaging;
+  }
+
+  /**
+   * @return the coordinates of the parent or {@code null} if the POM has no parent.
+   */
+  public MavenCoordinate getParent() {
+    return parent;
+  }
+
+  /**
+   * @return the modules, an empty list if the POM has no modules.
+   */
+  public List<String> getModules() {
+    return modules;
+  }
+
+  @Override
+  public String toString() {
+    return coordinate + (parent != null ? " (parent " + parent + ")" : "") + (modules.isEmpty() ? "" : " " + modules);
+  }
+
+  private static final class Coordinate implements MavenCoordinate {
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+
+    private Coordinate(String groupId, String artifactId, String version) {
+      this.groupId = groupId;
+      this.artifactId = artifactId;
+      this.version = version;
+    }
+
+    @Override
+    public String getGroupId() {
+      return groupId;
+    }
+
+    @Override
+    public void setGroupId(String groupId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getArtifactId() {
+      return artifactId;
+    }
+
+    @Override
+    public void setArtifactId(String artifactId) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String getVersion() {
+      return version;
+    }
+
+    @Override
+    public void setVersion(String version) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String toString() {
+      return groupId + ":" + artifactId + ":" + version;
+    }
+  }
+}
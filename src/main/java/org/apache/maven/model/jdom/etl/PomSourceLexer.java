@@ -0,0 +1,315 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.codehaus.plexus.util.ReaderFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Prepares the source of a POM for parsing in a single pass over its characters:
+ * <ul>
+ * <li>All line separators are normalized to the requested one. In contrast to an XML processor, which normalizes
+ * them to {@code "\n"}, this saves another normalization step when writing the source back to a file.</li>
+ * <li>Optionally, runs of whitespace within start tags, end tags and processing instructions (including the XML
+ * declaration) are collapsed to a single space. Attribute values, comments, CDATA sections and declarations like
+ * DOCTYPE are left as they are.</li>
+ * </ul>
+ * Besides that, the root element can be located lexically in a prepared source, to cut out the text before and after
+ * it, which is not tracked by JDOM.
+ */
+final class PomSourceLexer {
+
+  private static final int TEXT = 0;
+  private static final int TAG = 1;
+  private static final int ATTRIBUTE_VALUE = 2;
+  private static final int PROCESSING_INSTRUCTION = 3;
+  private static final int COMMENT = 4;
+  private static final int CDATA = 5;
+
+  private final char[] source;
+  private final int length;
+  private final String lineSeparator;
+  private final boolean collapseTagWhitespace;
+  private final StringBuilder result;
+
+  private PomSourceLexer(char[] source, int length, String lineSeparator, boolean collapseTagWhitespace) {
+    this.source = source;
+    this.length = length;
+    this.lineSeparator = lineSeparator;
+    this.collapseTagWhitespace = collapseTagWhitespace;
+    this.result = new StringBuilder(length + length / 16);
+  }
+
+  /**
+   * Reads a POM file, detecting its encoding like {@link ReaderFactory#newXmlReader(File)}, and prepares its source.
+   *
+   * @param file                  the POM file.
+   * @param lineSeparator         the line separator to be used.
+   * @param collapseTagWhitespace whether whitespace within tags should be collapsed.
+   * @return the prepared source.
+   * @throws IOException if the file can not be read.
+   */
+  static String read(File file, String lineSeparator, boolean collapseTagWhitespace) throws IOException {
+    try (Reader reader = ReaderFactory.newXmlReader(file)) {
+      return read(reader, lineSeparator, collapseTagWhitespace);
+    }
+  }
+
+  /**
+   * Reads a POM source and prepares it.
+   *
+   * @param reader                the source.
+   * @param lineSeparator         the line separator to be used.
+   * @param collapseTagWhitespace whether whitespace within tags should be collapsed.
+   * @return the prepared source.
+   * @throws IOException if the source can not be read.
+   */
+  static String read(Reader reader, String lineSeparator, boolean collapseTagWhitespace) throws IOException {
+    char[] buffer = new char[8192];
+    int length = 0;
+    int read;
+    while ((read = reader.read(buffer, length, buffer.length - length)) != -1) {
+      length += read;
+      if (length == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+    }
+    return new PomSourceLexer(buffer, length, lineSeparator, collapseTagWhitespace).lex();
+  }
+
+  private String lex() {
+    int state = TEXT;
+    char quote = 0;
+    int offset = 0;
+    while (offset < length) {
+      char c = source[offset];
+      switch (state) {
+        case TEXT:
+          if (c != '<') {
+            offset = appendChar(offset);
+          } else if (startsWith("<!--", offset)) {
+            offset = append("<!--", offset);
+            state = COMMENT;
+          } else if (startsWith("<![CDATA[", offset)) {
+            offset = append("<![CDATA[", offset);
+            state = CDATA;
+          } else if (startsWith("<!", offset)) {
+            // Declarations are copied as they are, but comments and processing instructions within them are lexed.
+            offset = append("<!", offset);
+          } else if (startsWith("<?", offset)) {
+            offset = append("<?", offset);
+            state = PROCESSING_INSTRUCTION;
+          } else {
+            offset = append("<", offset);
+            state = TAG;
+          }
+          break;
+        case TAG:
+          if (c == '"' || c == '\'') {
+            quote = c;
+            offset = append(c, offset);
+            state = ATTRIBUTE_VALUE;
+          } else if (c == '>') {
+            offset = append(c, offset);
+            state = TEXT;
+          } else {
+            offset = appendTagChar(offset);
+          }
+          break;
+        case ATTRIBUTE_VALUE:
+          if (c == quote) {
+            offset = append(c, offset);
+            state = TAG;
+          } else {
+            offset = appendChar(offset);
+          }
+          break;
+        case PROCESSING_INSTRUCTION:
+          if (startsWith("?>", offset)) {
+            offset = append("?>", offset);
+            state = TEXT;
+          } else {
+            offset = appendTagChar(offset);
+          }
+          break;
+        case COMMENT:
+          if (startsWith("-->", offset)) {
+            offset = append("-->", offset);
+            state = TEXT;
+          } else {
+            offset = appendChar(offset);
+          }
+          break;
+        default:
+          if (startsWith("]]>", offset)) {
+            offset = append("]]>", offset);
+            state = TEXT;
+          } else {
+            offset = appendChar(offset);
+          }
+          break;
+      }
+    }
+    return result.toString();
+  }
+
+  private boolean startsWith(String str, int offset) {
+    if (offset + str.length() > length) {
+      return false;
+    }
+    for (int i = 0; i < str.length(); i++) {
+      if (source[offset + i] != str.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int append(String str, int offset) {
+    result.append(str);
+    return offset + str.length();
+  }
+
+  private int append(char c, int offset) {
+    result.append(c);
+    return offset + 1;
+  }
+
+  private int appendChar(int offset) {
+    char c = source[offset];
+    if (c == '\r') {
+      result.append(lineSeparator);
+      return offset + 1 < length && source[offset + 1] == '\n' ? offset + 2 : offset + 1;
+    } else if (c == '\n') {
+      result.append(lineSeparator);
+      return offset + 1;
+    } else {
+      result.append(c);
+      return offset + 1;
+    }
+  }
+
+  private int appendTagChar(int offset) {
+    if (!collapseTagWhitespace || !isWhitespace(source[offset])) {
+      return appendChar(offset);
+    }
+
+    // A whitespace run that is longer than a single character (after normalizing the line separators) is collapsed.
+    int runLength = 0;
+    int end = offset;
+    while (end < length && isWhitespace(source[end])) {
+      if (source[end] == '\r' && end + 1 < length && source[end + 1] == '\n') {
+        end++;
+      }
+      runLength += source[end] == '\r' || source[end] == '\n' ? lineSeparator.length() : 1;
+      end++;
+    }
+    if (runLength == 1) {
+      return appendChar(offset);
+    }
+    result.append(' ');
+    return end;
+  }
+
+  /**
+   * Returns the offset of the {@code '<'} that opens the root elements start tag. The XML declaration, a DOCTYPE,
+   * comments, processing instructions and whitespace are skipped.
+   *
+   * @param source a well-formed XML document.
+   * @return the offset of the root element.
+   */
+  static int getRootElementStartOffset(String source) {
+    int offset = 0;
+    int length = source.length();
+    while (offset < length) {
+      if (isWhitespace(source.charAt(offset))) {
+        offset++;
+      } else if (source.startsWith("<?", offset)) {
+        offset = indexAfter(source, "?>", offset + 2);
+      } else if (source.startsWith("<!--", offset)) {
+        offset = indexAfter(source, "-->", offset + 4);
+      } else if (source.startsWith("<!DOCTYPE", offset)) {
+        offset = indexAfterDocType(source, offset + 9);
+      } else {
+        break;
+      }
+    }
+    return offset;
+  }
+
+  /**
+   * Returns the offset directly after the {@code '>'} that closes the root elements end tag. Comments, processing
+   * instructions and whitespace are skipped backwards from the end.
+   *
+   * @param source a well-formed XML document.
+   * @return the offset after the root element.
+   */
+  static int getRootElementEndOffset(String source) {
+    int offset = source.length();
+    while (offset > 0) {
+      if (isWhitespace(source.charAt(offset - 1))) {
+        offset--;
+      } else if (source.startsWith("-->", offset - 3)) {
+        // Comments must not contain "--", so the last "<!--" is the start of this comment.
+        offset = source.lastIndexOf("<!--", offset - 3);
+      } else if (source.startsWith("?>", offset - 2)) {
+        offset = source.lastIndexOf("<?", offset - 2);
+      } else {
+        break;
+      }
+    }
+    return Math.max(offset, 0);
+  }
+
+  private static int indexAfterDocType(String source, int offset) {
+    // The internal subset may contain '>' in markup declarations, comments and quoted literals.
+    int length = source.length();
+    boolean internalSubset = false;
+    while (offset < length) {
+      char c = source.charAt(offset);
+      if (c == '"' || c == '\'') {
+        offset = indexAfter(source, String.valueOf(c), offset + 1);
+      } else if (source.startsWith("<!--", offset)) {
+        offset = indexAfter(source, "-->", offset + 4);
+      } else if (c == '[') {
+        internalSubset = true;
+        offset++;
+      } else if (c == ']') {
+        internalSubset = false;
+        offset++;
+      } else if (c == '>' && !internalSubset) {
+        return offset + 1;
+      } else {
+        offset++;
+      }
+    }
+    return length;
+  }
+
+  private static int indexAfter(String source, String str, int offset) {
+    int index = source.indexOf(str, offset);
+    return index < 0 ? source.length() : index + str.length();
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\r' || c == '\n';
+  }
+}
@@ -0,0 +1,410 @@
+package org.apache.maven.model.jdom.etl;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.DependencyManagement;
+import org.apache.maven.model.Model;
+import org.apache.maven.model.Parent;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginManagement;
+import org.apache.maven.model.jdom.JDomModel;
+import org.apache.maven.model.jdom.util.JDomUtils;
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * An index of the POMs of a reactor, which answers which modules depend on an artifact and which modules inherit from
+ * a parent without walking all models.
+ * <p>
+ * The index is {@link #build(File, ModelETLFactory, ModelETLRequest) built} by extracting the root POM and,
+ * recursively, the POMs of its modules. Modules and artifacts are identified by keys of the form
+ * {@code groupId:artifactId}; the group ID of a module is inherited from its parent if the module does not declare one.
+ * Values are taken as they are written in the POMs, so properties are not interpolated and profiles are not
+ * considered.
+ * <p>
+ * The index stays up to date while the extracted models are modified: the modifications are tracked by
+ * {@link JDomUtils#addModificationListener(Document, Consumer)} and the modified models are indexed again on the next
+ * query. Modules that are removed from a {@code modules} section are dropped from the index, added modules are
+ * extracted if their POM exists. This class is not thread-safe.
+ */
+public class ReactorIndex {
+
+  /**
+   * The kinds of references from a module to an artifact.
+   */
+  public enum Reference {
+    /**
+     * A dependency of the module.
+     */
+    DEPENDENCY,
+    /**
+     * A dependency in the dependency management of the module.
+     */
+    MANAGED_DEPENDENCY,
+    /**
+     * A build plugin or a plugin in the plugin management of the module.
+     */
+    PLUGIN
+  }
+
+  private static final String DEFAULT_PLUGIN_GROUP_ID = "org.apache.maven.plugins";
+
+  private final ModelETLFactory modelETLFactory;
+  private final ModelETLRequest modelETLRequest;
+
+  private final Map<File, Module> modulesByPomFile = new LinkedHashMap<>();
+  private final Map<String, Module> modulesByKey = new HashMap<>();
+  private final Map<String, Set<Module>> childrenByParentKey = new HashMap<>();
+  private final Map<Reference, Map<String, Set<Module>>> referrersByKey = new EnumMap<>(Reference.class);
+
+  private final Set<Module> modifiedModules = new LinkedHashSet<>();
+
+  private ReactorIndex(ModelETLFactory modelETLFactory, ModelETLRequest modelETLRequest) {
+    this.modelETLFactory = modelETLFactory;
+    this.modelETLRequest = modelETLRequest;
+    for (Reference reference : Reference.values()) {
+      referrersByKey.put(reference, new HashMap<>());
+    }
+  }
+
+  /**
+   * Builds the index of a reactor.
+   *
+   * @param rootPomFile     the POM of the root module.
+   * @param modelETLFactory the factory for the ETLs that extract the POMs, which must create {@link JDomModelETL}s.
+   * @param modelETLRequest the request for the ETLs.
+   * @return the index.
+   * @throws IOException   if a POM can not be read.
+   * @throws JDOMException if a POM can not be parsed.
+   */
+  public static ReactorIndex build(File rootPomFile, ModelETLFactory modelETLFactory, ModelETLRequest modelETLRequest)
+          throws IOException, JDOMException {
+    ReactorIndex index = new ReactorIndex(modelETLFactory, modelETLRequest);
+    File pomFile = rootPomFile.getCanonicalFile();
+    if (!pomFile.isFile()) {
+      throw new FileNotFoundException("POM file not found: " + rootPomFile);
+    }
+    index.extract(pomFile, null);
+    return index;
+  }
+
+  /**
+   * @return the keys of all modules.
+   */
+  public Set<String> getModuleKeys() {
+    refresh();
+    return Collections.unmodifiableSet(new LinkedHashSet<>(modulesByKey.keySet()));
+  }
+
+  /**
+   * @return the ETLs of all modules, starting with the root module.
+   */
+  public Collection<JDomModelETL> getModelETLs() {
+    refresh();
+    List<JDomModelETL> modelETLs = new ArrayList<>(modulesByPomFile.size());
+    for (Module module : modulesByPomFile.values()) {
+      modelETLs.add(module.modelETL);
+    }
+    return modelETLs;
+  }
+
+  /**
+   * @param key the key of a module.
+   * @return the ETL of the module or {@code null} if there is no such module.
+   */
+  public JDomModelETL getModelETL(String key) {
+    refresh();
+    Module module = modulesByKey.get(key);
+    return module == null ? null : module.modelETL;
+  }
+
+  /**
+   * @param key the key of a module.
+   * @return the key of the modules parent or {@code null} if there is no such module or it has no parent.
+   */
+  public String getParentKey(String key) {
+    refresh();
+    Module module = modulesByKey.get(key);
+    return module == null ? null : module.parentKey;
+  }
+
+  /**
+   * Returns the modules that inherit directly from the given parent.
+   *
+   * @param parentKey the key of the parent, which need not be a module of the reactor.
+   * @return the keys of the child modules.
+   */
+  public Set<String> getChildKeys(String parentKey) {
+    refresh();
+    return keysOf(childrenByParentKey.get(parentKey));
+  }
+
+  /**
+   * Returns the modules that refer to the given artifact in any way.
+   *
+   * @param key the key of the artifact, which need not be a module of the reactor.
+   * @return the keys of the referring modules.
+   */
+  public Set<String> getReferrerKeys(String key) {
+    refresh();
+    Set<String> keys = new LinkedHashSet<>();
+    for (Map<String, Set<Module>> referrers : referrersByKey.values()) {
+      keys.addAll(keysOf(referrers.get(key)));
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the modules that refer to the given artifact in the given way.
+   *
+   * @param key       the key of the artifact, which need not be a module of the reactor.
+   * @param reference the kind of reference.
+   * @return the keys of the referring modules.
+   */
+  public Set<String> getReferrerKeys(String key, Reference reference) {
+    refresh();
+    return keysOf(referrersByKey.get(reference).get(key));
+  }
+
+  private static Set<String> keysOf(Set<Module> modules) {
+    if (modules == null) {
+      return Collections.emptySet();
+    }
+    Set<String> keys = new LinkedHashSet<>(modules.size());
+    for (Module module : modules) {
+      keys.add(module.key);
+    }
+    return keys;
+  }
+
+  private void extract(File pomFile, Module aggregator) throws IOException, JDOMException {
+    ModelETL modelETL = modelETLFactory.newInstance(modelETLRequest);
+    if (!(modelETL instanceof JDomModelETL)) {
+      throw new IllegalArgumentException("The factory must create JDomModelETLs, but created " + modelETL.getClass());
+    }
+    modelETL.extract(pomFile);
+
+    Module module = new Module(pomFile, (JDomModelETL) modelETL, aggregator);
+    modulesByPomFile.put(pomFile, module);
+    JDomUtils.addModificationListener(module.getDocument(), module);
+    index(module);
+
+    for (File modulePomFile : module.modulePomFiles) {
+      if (!modulesByPomFile.containsKey(modulePomFile)) {
+        if (!modulePomFile.isFile()) {
+          throw new FileNotFoundException("POM file of module not found: " + modulePomFile);
+        }
+        extract(modulePomFile, module);
+      }
+    }
+  }
+
+  private void index(Module module) {
+    Model model = module.modelETL.getModel();
+    Parent parent = model.getParent();
+    String groupId = model.getGroupId();
+    if (groupId == null && parent != null) {
+      groupId = parent.getGroupId();
+    }
+    module.key = groupId + ':' + model.getArtifactId();
+    module.parentKey = parent == null ? null : parent.getGroupId() + ':' + parent.getArtifactId();
+
+    module.references.clear();
+    addDependencyReferences(module, Reference.DEPENDENCY, model.getDependencies());
+    DependencyManagement dependencyManagement = model.getDependencyManagement();
+    if (dependencyManagement != null) {
+      addDependencyReferences(module, Reference.MANAGED_DEPENDENCY, dependencyManagement.getDependencies());
+    }
+    Build build = model.getBuild();
+    if (build != null) {
+      addPluginReferences(module, build.getPlugins());
+      PluginManagement pluginManagement = build.getPluginManagement();
+      if (pluginManagement != null) {
+        addPluginReferences(module, pluginManagement.getPlugins());
+      }
+    }
+
+    module.modulePomFiles.clear();
+    File baseDir = module.pomFile.getParentFile();
+    for (String moduleName : model.getModules()) {
+      File modulePomFile = new File(baseDir, moduleName);
+      if (modulePomFile.isDirectory()) {
+        modulePomFile = new File(modulePomFile, "pom.xml");
+      }
+      try {
+        module.modulePomFiles.add(modulePomFile.getCanonicalFile());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    modulesByKey.put(module.key, module);
+    if (module.parentKey != null) {
+      childrenByParentKey.computeIfAbsent(module.parentKey, k -> new LinkedHashSet<>()).add(module);
+    }
+    for (Map.Entry<Reference, Set<String>> entry : module.references.entrySet()) {
+      Map<String, Set<Module>> referrers = referrersByKey.get(entry.getKey());
+      for (String key : entry.getValue()) {
+        referrers.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(module);
+      }
+    }
+  }
+
+  private void unindex(Module module) {
+    if (modulesByKey.get(module.key) == module) {
+      modulesByKey.remove(module.key);
+    }
+    if (module.parentKey != null) {
+      removeFrom(childrenByParentKey, module.parentKey, module);
+    }
+    for (Map.Entry<Reference, Set<String>> entry : module.references.entrySet()) {
+      Map<String, Set<Module>> referrers = referrersByKey.get(entry.getKey());
+      for (String key : entry.getValue()) {
+        removeFrom(referrers, key, module);
+      }
+    }
+  }
+
+  private static void removeFrom(Map<String, Set<Module>> modulesByKey, String key, Module module) {
+    Set<Module> modules = modulesByKey.get(key);
+    if (modules != null) {
+      modules.remove(module);
+      if (modules.isEmpty()) {
+        modulesByKey.remove(key);
+      }
+    }
+  }
+
+  private static void addDependencyReferences(Module module, Reference reference, List<Dependency> dependencies) {
+    for (Dependency dependency : dependencies) {
+      module.addReference(reference, dependency.getGroupId() + ':' + dependency.getArtifactId());
+    }
+  }
+
+  private static void addPluginReferences(Module module, List<Plugin> plugins) {
+    for (Plugin plugin : plugins) {
+      String groupId = plugin.getGroupId() != null ? plugin.getGroupId() : DEFAULT_PLUGIN_GROUP_ID;
+      module.addReference(Reference.PLUGIN, groupId + ':' + plugin.getArtifactId());
+    }
+  }
+
+  /**
+   * Indexes the modified modules again.
+   */
+  private void refresh() {
+    while (!modifiedModules.isEmpty()) {
+      List<Module> modules = new ArrayList<>(modifiedModules);
+      modifiedModules.clear();
+      for (Module module : modules) {
+        if (modulesByPomFile.get(module.pomFile) == module) {
+          refresh(module);
+        }
+      }
+    }
+  }
+
+  private void refresh(Module module) {
+    Set<File> previousModulePomFiles = new HashSet<>(module.modulePomFiles);
+    unindex(module);
+    index(module);
+
+    for (File modulePomFile : previousModulePomFiles) {
+      Module child = modulesByPomFile.get(modulePomFile);
+      if (!module.modulePomFiles.contains(modulePomFile) && child != null && child.aggregator == module) {
+        remove(child);
+      }
+    }
+    for (File modulePomFile : module.modulePomFiles) {
+      if (!modulesByPomFile.containsKey(modulePomFile) && modulePomFile.isFile()) {
+        try {
+          extract(modulePomFile, module);
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        } catch (JDOMException e) {
+          throw new IllegalStateException("Failed to parse POM file " + modulePomFile, e);
+        }
+      }
+    }
+  }
+
+  private void remove(Module module) {
+    unindex(module);
+    modulesByPomFile.remove(module.pomFile);
+    modifiedModules.remove(module);
+    JDomUtils.removeModificationListener(module.getDocument(), module);
+    for (File modulePomFile : module.modulePomFiles) {
+      Module child = modulesByPomFile.get(modulePomFile);
+      if (child != null && child.aggregator == module) {
+        remove(child);
+      }
+    }
+  }
+
+  /**
+   * A module of the reactor, which listens to the modifications of its model.
+   */
+  private final class Module implements Consumer<Element> {
+
+    private final File pomFile;
+    private final JDomModelETL modelETL;
+    private final Module aggregator;
+
+    private String key;
+    private String parentKey;
+    private final Map<Reference, Set<String>> references = new EnumMap<>(Reference.class);
+    private final List<File> modulePomFiles = new ArrayList<>();
+
+    private Module(File pomFile, JDomModelETL modelETL, Module aggregator) {
+      this.pomFile = pomFile;
+      this.modelETL = modelETL;
+      this.aggregator = aggregator;
+    }
+
+    private Document getDocument() {
+      return ((JDomModel) modelETL.getModel()).getJDomElement().getDocument();
+    }
+
+    private void addReference(Reference reference, String key) {
+      references.computeIfAbsent(reference, r -> new HashSet<>()).add(key);
+    }
+
+    @Override
+    public void accept(Element element) {
+      modifiedModules.add(this);
+    }
+  }
+}
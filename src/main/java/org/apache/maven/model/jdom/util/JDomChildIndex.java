@@ -0,0 +1,184 @@
+package org.apache.maven.model.jdom.util;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Content;
+import org.jdom2.Document;
+import org.jdom2.Element;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the child elements of an element by name, used to avoid scanning the content list of an element on every
+ * {@link JDomUtils#getChildElement(String, Element)} call.
+ * <p>
+ * Indexing is optional and must be {@link #enable(Document) enabled} per document. The index of an element is built
+ * lazily on the first lookup and only for elements with a larger content list. It covers the child elements that are
+ * in the same namespace as the indexed element and maps each name to the first child element with that name.
+ * <p>
+ * Modifications made by {@link JDomUtils} keep the index in sync (see {@link #peek(Element)}). Modifications made
+ * by other code are detected by a changed content size or by a child element that was moved, renamed or detached. In
+ * that case the index is dropped and built again on the next lookup. Note that a child element that is renamed from
+ * outside (without changing the content size) is not found by its new name until the index has been dropped.
+ */
+final class JDomChildIndex {
+
+  private static final String DOCUMENT_PROPERTY = JDomChildIndex.class.getName();
+
+  /**
+   * Elements with fewer contents are scanned directly, which is as fast as an index lookup.
+   */
+  static final int MIN_CONTENT_SIZE = 16;
+
+  private final Element parent;
+  private final Map<String, Element> firstChildByName = new HashMap<>();
+  private int contentSize;
+
+  private JDomChildIndex(Element parent) {
+    this.parent = parent;
+    List<Content> contents = parent.getContent();
+    for (Content content : contents) {
+      if (content instanceof Element && isIndexed((Element) content)) {
+        firstChildByName.putIfAbsent(((Element) content).getName(), (Element) content);
+      }
+    }
+    contentSize = contents.size();
+  }
+
+  /**
+   * Enables child element indexing for the given document.
+   *
+   * @param document the document.
+   */
+  static void enable(Document document) {
+    if (document.getProperty(DOCUMENT_PROPERTY) == null) {
+      document.setProperty(DOCUMENT_PROPERTY, new IdentityHashMap<Element, JDomChildIndex>());
+    }
+  }
+
+  /**
+   * Returns the first child element of the given parent with the given name in the namespace of the parent.
+   *
+   * @param name   the name of the child element.
+   * @param parent the parent element.
+   * @return the child element or {@code null}.
+   */
+  static Element getChild(String name, Element parent) {
+    if (parent.getContentSize() >= MIN_CONTENT_SIZE) {
+      Map<Element, JDomChildIndex> indices = getIndices(parent);
+      if (indices != null) {
+        synchronized (indices) {
+          JDomChildIndex index = indices.get(parent);
+          if (index == null || !index.isValid()) {
+            index = new JDomChildIndex(parent);
+            indices.put(parent, index);
+          }
+          Element child = index.firstChildByName.get(name);
+          if (child == null || index.isValid(child, name)) {
+            return child;
+          }
+          // A child element has been moved or renamed from outside.
+          indices.remove(parent);
+        }
+      }
+    }
+    return parent.getChild(name, parent.getNamespace());
+  }
+
+  /**
+   * Returns the existing and valid index of the given element. It must be requested before the element is modified and
+   * be informed about the modification afterwards, using {@link #childAdded(Element, int)} or
+   * {@link #childRemoved(Element)}.
+   *
+   * @param parent the element to be modified.
+   * @return the index or {@code null} if there is none.
+   */
+  static JDomChildIndex peek(Element parent) {
+    Map<Element, JDomChildIndex> indices = getIndices(parent);
+    if (indices != null) {
+      synchronized (indices) {
+        JDomChildIndex index = indices.get(parent);
+        if (index != null && index.isValid()) {
+          return index;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Updates the index after an element has been added.
+   *
+   * @param child      the added element.
+   * @param childIndex the position of the added element in the content list of the parent.
+   */
+  void childAdded(Element child, int childIndex) {
+    if (isIndexed(child)) {
+      Element first = firstChildByName.get(child.getName());
+      if (first == null || parent.indexOf(first) > childIndex) {
+        firstChildByName.put(child.getName(), child);
+      }
+    }
+    contentSize = parent.getContentSize();
+  }
+
+  /**
+   * Updates the index after an element has been removed.
+   *
+   * @param child the removed element.
+   */
+  void childRemoved(Element child) {
+    String name = child.getName();
+    if (firstChildByName.get(name) == child) {
+      Element next = parent.getChild(name, parent.getNamespace());
+      if (next == null || next == child) {
+        firstChildByName.remove(name);
+      } else {
+        firstChildByName.put(name, next);
+      }
+    }
+    contentSize = parent.getContentSize();
+  }
+
+  /**
+   * Updates the index after contents that are no elements have been added or removed.
+   */
+  void contentsChanged() {
+    contentSize = parent.getContentSize();
+  }
+
+  private boolean isIndexed(Element child) {
+    return child.getNamespace().equals(parent.getNamespace());
+  }
+
+  private boolean isValid() {
+    return contentSize == parent.getContentSize();
+  }
+
+  private boolean isValid(Element child, String name) {
+    return child.getParent() == parent && name.equals(child.getName()) && isIndexed(child);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<Element, JDomChildIndex> getIndices(Element element) {
+    Document document = element.getDocument();
+    return document == null ? null : (Map<Element, JDomChildIndex>) document.getProperty(DOCUMENT_PROPERTY);
+  }
+}
@@ -0,0 +1,222 @@
+package org.apache.maven.model.jdom.util;
+
+/*
+ * Copyright 2026 CoreMedia AG, Hamburg
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import org.jdom2.Content;
+import org.jdom2.Element;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ACTIVATION;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_ID;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PROFILE;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PROFILES;
+
+/**
+ * Applies the cleanups of the {@link JDomCleanupHelper} in a single traversal of the JDOM tree:
+ * <ol>
+ * <li>Empty elements with the configured names are removed (see
+ * {@link JDomCleanupHelper#cleanupEmptyElements(Element, String)}).</li>
+ * <li>Empty profiles and {@code profiles} elements are removed from the configured parents (see
+ * {@link JDomCleanupHelper#cleanupEmptyProfiles(Element, List)}).</li>
+ * <li>Optionally, multiple consecutive newlines are squashed (see
+ * {@link JDomCleanupHelper#squashMultilines(Element)}).</li>
+ * </ol>
+ * The tree is visited in post-order, so an element is checked after its children: elements that only become empty by
+ * the removal of their children are removed as well, regardless of the order of the configured names. The removals are
+ * collected during the traversal and applied afterwards, skipping those within removed elements. Newlines are squashed
+ * while visiting the elements, except in those whose contents are removed, which are squashed after the removals.
+ */
+public class JDomCleanup {
+
+  private static final List<String> IGNORED_PROFILE_CHILDREN = Collections.unmodifiableList(
+          Arrays.asList(POM_ELEMENT_ID, POM_ELEMENT_ACTIVATION));
+
+  private final Set<String> emptyElementNames;
+  private final Set<String> profilesParents;
+  private final boolean squashMultilines;
+
+  /**
+   * Creates a cleanup.
+   *
+   * @param emptyElementNames the names of the elements to be removed if they are empty.
+   * @param profilesParents   the names of the parents whose {@code profiles} elements are cleaned.
+   * @param squashMultilines  whether multiple consecutive newlines should be squashed.
+   */
+  public JDomCleanup(Collection<String> emptyElementNames, Collection<String> profilesParents,
+                     boolean squashMultilines) {
+    this.emptyElementNames = new HashSet<>(emptyElementNames);
+    this.profilesParents = new HashSet<>(profilesParents);
+    this.squashMultilines = squashMultilines;
+  }
+
+  /**
+   * Cleans the descendants of the given element.
+   *
+   * @param rootElement the root element, which is never removed itself.
+   */
+  public void cleanup(Element rootElement) {
+    new Traversal().run(rootElement);
+  }
+
+  /**
+   * The state of a single cleanup.
+   */
+  private final class Traversal {
+
+    private final Set<Element> removedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final List<Content> removals = new ArrayList<>();
+    private final Set<Element> parentsWithRemovals = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    private void run(Element rootElement) {
+      visitChildren(rootElement);
+      finish(rootElement);
+
+      for (Content removal : removals) {
+        Element parent = removal.getParentElement();
+        if (parent != null && !isWithinRemovedElement(parent)) {
+          JDomUtils.removeChildAndItsCommentFromContent(parent, removal);
+        }
+      }
+
+      if (squashMultilines) {
+        for (Element parent : parentsWithRemovals) {
+          if (!isWithinRemovedElement(parent)) {
+            JDomCleanupHelper.squashMultilinesInContent(parent);
+          }
+        }
+      }
+    }
+
+    /**
+     * Visits the child elements of the given element.
+     *
+     * @return the number of child elements that are not removed.
+     */
+    private int visitChildren(Element element) {
+      // The contents of the element are not changed before all of its children have been visited.
+      int remaining = 0;
+      List<Content> contents = element.getContent();
+      for (int i = 0; i < contents.size(); i++) {
+        Content content = contents.get(i);
+        if (content instanceof Element && !visit((Element) content, i)) {
+          remaining++;
+        }
+      }
+      return remaining;
+    }
+
+    /**
+     * Visits the given element after its children and decides whether it is removed.
+     *
+     * @param index the index of the element in its parent.
+     * @return {@code true} if the element is removed.
+     */
+    private boolean visit(Element element, int index) {
+      int remainingChildren = visitChildren(element);
+      String name = element.getName();
+      Element parent = element.getParentElement();
+
+      if (emptyElementNames.contains(name) && remainingChildren == 0) {
+        remove(element);
+        return true;
+      }
+      if (POM_ELEMENT_PROFILE.equals(name) && isCleanedProfiles(parent) && isEmptyProfile(element)) {
+        // The comments are collected before anything is removed from the profiles element.
+        List<Content> attachedComments = JDomCleanupHelper.getAttachedComments(element, index);
+        remove(element);
+        for (Content comment : attachedComments) {
+          removals.add(comment);
+        }
+        return true;
+      }
+      if (POM_ELEMENT_PROFILES.equals(name) && isCleanedProfiles(element) && !hasRemainingProfile(element)) {
+        remove(element);
+        return true;
+      }
+
+      finish(element);
+      return false;
+    }
+
+    private void remove(Element element) {
+      removedElements.add(element);
+      removals.add(element);
+      parentsWithRemovals.add(element.getParentElement());
+    }
+
+    /**
+     * Squashes the newlines of an element that is kept, unless its contents are changed later.
+     */
+    private void finish(Element element) {
+      if (squashMultilines && !parentsWithRemovals.contains(element)) {
+        JDomCleanupHelper.squashMultilinesInContent(element);
+      }
+    }
+
+    private boolean isCleanedProfiles(Element profiles) {
+      if (profiles == null || !POM_ELEMENT_PROFILES.equals(profiles.getName())) {
+        return false;
+      }
+      Element parent = profiles.getParentElement();
+      return parent != null && profilesParents.contains(parent.getName());
+    }
+
+    private boolean isEmptyProfile(Element profile) {
+      for (Element child : profile.getChildren()) {
+        if (!IGNORED_PROFILE_CHILDREN.contains(child.getName()) && hasRemainingChild(child)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private boolean hasRemainingProfile(Element profiles) {
+      for (Element child : profiles.getChildren(POM_ELEMENT_PROFILE, profiles.getNamespace())) {
+        if (!removedElements.contains(child)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean hasRemainingChild(Element element) {
+      for (Element child : element.getChildren()) {
+        if (!removedElements.contains(child)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private boolean isWithinRemovedElement(Element element) {
+      for (Element e = element; e != null; e = e.getParentElement()) {
+        if (removedElements.contains(e)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+}
@@ -102,29 +102,38 @@ public class JDomCleanupHelper {
    * @param rootElement the root element.
    */
   public static void squashMultilines(Element rootElement) {
-    // Compute groups of consecutive sibling content with only newlines (and whitespace)
+    // The elements are collected first, because the contents are modified while squashing.
+    List<Element> elements = new ArrayList<>();
+    elements.add(rootElement);
+    for (Element element : rootElement.getDescendants(new ElementFilter())) {
+      elements.add(element);
+    }
+    for (Element element : elements) {
+      squashMultilinesInContent(element);
+    }
+  }
+
+  /**
+   * Squashes the runs of consecutive texts with only newlines (and whitespace) in the contents of the given element,
+   * but not in the contents of its children, to two newlines.
+   *
+   * @param element the element.
+   */
+  static void squashMultilinesInContent(Element element) {
+    // Compute groups of consecutive content with only newlines (and whitespace)
     List<List<Text>> newLineGroups = new ArrayList<>();
-    List<Text> currentGroup = new ArrayList<>();
-    for (Content descendant : rootElement.getDescendants()) {
-      if (JDomContentHelper.hasNewlines(descendant)) {
-        if (!currentGroup.isEmpty()) {
-          Element parent = currentGroup.get(0).getParent();
-          if (!parent.equals(descendant.getParentElement())) {
-            newLineGroups.add(currentGroup);
-            currentGroup = new ArrayList<>();
-          }
-        }
-        currentGroup.add((Text) descendant);
-      } else {
-        if (!currentGroup.isEmpty()) {
-          newLineGroups.add(currentGroup);
+    List<Text> currentGroup = null;
+    for (Content content : element.getContent()) {
+      if (JDomContentHelper.hasNewlines(content)) {
+        if (currentGroup == null) {
           currentGroup = new ArrayList<>();
+          newLineGroups.add(currentGroup);
         }
+        currentGroup.add((Text) content);
+      } else {
+        currentGroup = null;
       }
     }
-    if (!currentGroup.isEmpty()) {
-      newLineGroups.add(currentGroup);
-    }
 
     // For every group keep the last element (because it might be followed by whitespace which we want to keep for indentation)
     // and set its text to two newlines (+ whitespace).
@@ -137,11 +146,10 @@ public class JDomCleanupHelper {
 
       if (newlineCount > 2) {
         Text last = group.get(group.size() - 1);
+        JDomUtils.markModified(last);
         last.setText("\n\n" + last.getText().replaceAll("\n", ""));
-        group.remove(last);
-        for (Text text : group) {
-          text.getParentElement().removeContent(text);
-          text.detach();
+        for (Text text : group.subList(0, group.size() - 1)) {
+          element.removeContent(text);
         }
       }
     }
@@ -194,47 +202,41 @@ public class JDomCleanupHelper {
    * @param element the element to consider.
    * @return List of {@link Comment}s
    */
-  private static List<Content> getAttachedComments(Element element) {
-    List<Content> contents = new ArrayList<>();
-    List<Content> siblings = getDirectContents(element.getParentElement());
-    int indexOfElement = siblings.indexOf(element);
-    for (int i = indexOfElement - 1; i >= 0; i--) {
-      if (JDomContentHelper.isNewline(siblings.get(i))) {
-        contents.add(siblings.get(i));
-        i--;
-      }
-      if (i >= 0 && siblings.get(i) instanceof Comment) {
-        contents.add(siblings.get(i));
-        continue;
-      }
-      if (i >= 0 && JDomContentHelper.isMultiNewLine(siblings.get(i))) {
-        contents.add(siblings.get(i));
-      }
-      break;
-    }
-    return contents;
+  static List<Content> getAttachedComments(Element element) {
+    return getAttachedComments(element, -1);
   }
 
   /**
-   * Get all direct children of the element.
+   * Get all comments attached of the element, navigating backwards through its siblings.
    *
-   * @param element the element to consider.
-   * @return List of {@link Content}s
+   * @param element   the element to consider.
+   * @param indexHint the expected index of the element in its parent or {@code -1} if unknown (see
+   *                  {@link JDomContentHelper#indexInParent(Content, int)}).
+   * @return List of {@link Comment}s
    */
-  private static List<Content> getDirectContents(Element element) {
-    // get all direct children
-    List<Content> children = new ArrayList<>();
-    Element parentElement = element.getParentElement();
-    if (null == parentElement) {
-      return children;
+  static List<Content> getAttachedComments(Element element, int indexHint) {
+    List<Content> contents = new ArrayList<>();
+    int index = JDomContentHelper.indexInParent(element, indexHint);
+    if (index < 0) {
+      return contents;
     }
-    for (Content descendant : parentElement.getDescendants()) {
-      if (!descendant.getParent().equals(element)) {
-        // Only consider direct children
+    // The index of the current sibling is tracked, so each step back takes constant time.
+    Content sibling = JDomContentHelper.getPreviousSibling(element, index--);
+    while (sibling != null) {
+      if (JDomContentHelper.isNewline(sibling)) {
+        contents.add(sibling);
+        sibling = JDomContentHelper.getPreviousSibling(sibling, index--);
+      }
+      if (sibling instanceof Comment) {
+        contents.add(sibling);
+        sibling = JDomContentHelper.getPreviousSibling(sibling, index--);
         continue;
       }
-      children.add(descendant);
+      if (JDomContentHelper.isMultiNewLine(sibling)) {
+        contents.add(sibling);
+      }
+      break;
     }
-    return children;
+    return contents;
   }
 }
@@ -1,6 +1,7 @@
 package org.apache.maven.model.jdom.util;
 
 import org.apache.maven.model.jdom.JDomConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.jdom2.Element;
 import org.jdom2.Text;
 
@@ -8,6 +9,8 @@ import static java.util.Arrays.asList;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_CONFIGURATION;
 import static org.apache.maven.model.jdom.util.JDomUtils.detectIndentation;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
+import static org.apache.maven.model.jdom.util.JDomUtils.markModified;
+import static org.apache.maven.model.jdom.util.JDomUtils.newDetachedElement;
 import static org.apache.maven.model.jdom.util.JDomUtils.resetIndentations;
 import static org.apache.maven.model.jdom.util.JDomUtils.rewriteElement;
 
@@ -21,25 +24,54 @@ public class JDomConfigurationContainerHelper {
     }
   }
 
+  /**
+   * Sets the configuration of the given element. A {@link JDomConfiguration} is copied, any other {@link Xpp3Dom} is
+   * serialized into a new {@code configuration} element. An existing {@code configuration} element is replaced at its
+   * position.
+   *
+   * @param jdomElement   the element that contains the configuration.
+   * @param configuration the configuration or {@code null} to remove it.
+   * @throws IllegalArgumentException if the configuration is neither {@code null} nor an {@link Xpp3Dom}.
+   */
   public static void setConfiguration(Element jdomElement, Object configuration) {
     if (configuration == null) {
       rewriteElement(POM_ELEMENT_CONFIGURATION, null, jdomElement);
     } else if (configuration instanceof JDomConfiguration) {
-      Element newJDomConfigurationElement = ((JDomConfiguration) configuration).getJDomElement().clone();
-
-      JDomConfiguration oldJDomConfiguration = getConfiguration(jdomElement);
-      if (oldJDomConfiguration == null) {
-        jdomElement.addContent(
-                jdomElement.getContentSize() - 1,
-                asList(new Text("\n" + detectIndentation(jdomElement)), newJDomConfigurationElement));
-      } else {
-        int replaceIndex = jdomElement.indexOf(oldJDomConfiguration.getJDomElement());
-        jdomElement.removeContent(replaceIndex);
-        jdomElement.addContent(replaceIndex, newJDomConfigurationElement);
-      }
-
-      resetIndentations(jdomElement, detectIndentation(jdomElement));
-      resetIndentations(newJDomConfigurationElement, detectIndentation(jdomElement) + "  ");
+      replaceConfiguration(jdomElement, ((JDomConfiguration) configuration).getJDomElement().clone());
+    } else if (configuration instanceof Xpp3Dom) {
+      replaceConfiguration(jdomElement, newConfigurationElement(jdomElement, (Xpp3Dom) configuration));
+    } else {
+      throw new IllegalArgumentException("Unsupported configuration type: " + configuration.getClass().getName());
+    }
+  }
+
+  private static Element newConfigurationElement(Element jdomElement, Xpp3Dom configuration) {
+    Element newJDomConfigurationElement = newDetachedElement(POM_ELEMENT_CONFIGURATION, jdomElement);
+    for (String attributeName : configuration.getAttributeNames()) {
+      newJDomConfigurationElement.setAttribute(attributeName, configuration.getAttribute(attributeName));
+    }
+
+    JDomConfiguration newJDomConfiguration = new JDomConfiguration(newJDomConfigurationElement);
+    for (Xpp3Dom child : configuration.getChildren()) {
+      newJDomConfiguration.addChild(child);
     }
+    return newJDomConfigurationElement;
+  }
+
+  private static void replaceConfiguration(Element jdomElement, Element newJDomConfigurationElement) {
+    JDomConfiguration oldJDomConfiguration = getConfiguration(jdomElement);
+    if (oldJDomConfiguration == null) {
+      jdomElement.addContent(
+              jdomElement.getContentSize() - 1,
+              asList(new Text("\n" + detectIndentation(jdomElement)), newJDomConfigurationElement));
+    } else {
+      int replaceIndex = jdomElement.indexOf(oldJDomConfiguration.getJDomElement());
+      jdomElement.removeContent(replaceIndex);
+      jdomElement.addContent(replaceIndex, newJDomConfigurationElement);
+    }
+
+    resetIndentations(jdomElement, detectIndentation(jdomElement));
+    resetIndentations(newJDomConfigurationElement, detectIndentation(jdomElement) + "  ");
+    markModified(jdomElement);
   }
 }
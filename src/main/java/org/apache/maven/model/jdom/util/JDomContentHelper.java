@@ -23,10 +23,12 @@ import org.codehaus.plexus.util.StringUtils;
 import org.jdom2.Comment;
 import org.jdom2.Content;
 import org.jdom2.Element;
+import org.jdom2.Parent;
 import org.jdom2.Text;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+
 /**
  * Utility methods for {@link Content}.
  */
@@ -125,6 +127,100 @@ class JDomContentHelper {
     return isIndexValid(index, parent) ? parent.getContent(index) : null;
   }
 
+  /**
+   * Returns the index of the given content in the content list of its parent.
+   *
+   * @param content the content.
+   * @return the index or {@code -1} if the content has no parent.
+   */
+  static int indexInParent(Content content) {
+    return indexInParent(content, -1);
+  }
+
+  /**
+   * Returns the index of the given content in the content list of its parent. The given hint (e.g. the index at which
+   * the content was found before) is checked first, and the content list is searched outwards from the hint, so the
+   * lookup is fast as long as the content has not moved far.
+   *
+   * @param content the content.
+   * @param hint    the expected index or {@code -1} if unknown.
+   * @return the index or {@code -1} if the content has no parent.
+   */
+  static int indexInParent(Content content, int hint) {
+    Parent parent = content.getParent();
+    if (parent == null) {
+      return -1;
+    }
+    if (hint < 0) {
+      return parent.indexOf(content);
+    }
+
+    int size = parent.getContentSize();
+    for (int distance = 0; hint - distance >= 0 || hint + distance < size; distance++) {
+      int before = hint - distance;
+      int after = hint + distance;
+      if (before >= 0 && before < size && parent.getContent(before) == content) {
+        return before;
+      } else if (distance > 0 && after < size && parent.getContent(after) == content) {
+        return after;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the sibling that precedes the given content in the content list of its parent.
+   *
+   * @param content the content.
+   * @return the previous sibling or {@code null} if the content is the first one or has no parent.
+   */
+  static Content getPreviousSibling(Content content) {
+    return getPreviousSibling(content, indexInParent(content));
+  }
+
+  /**
+   * Returns the sibling that precedes the given content, whose index in the content list of its parent is known, so
+   * navigating backwards through the siblings takes constant time per step.
+   *
+   * @param content the content.
+   * @param index   the index of the content in its parent (see {@link #indexInParent(Content, int)}).
+   * @return the previous sibling (at {@code index - 1}) or {@code null} if the content is the first one or has no
+   * parent.
+   */
+  static Content getPreviousSibling(Content content, int index) {
+    return getSibling(content, index - 1);
+  }
+
+  /**
+   * Returns the sibling that follows the given content in the content list of its parent.
+   *
+   * @param content the content.
+   * @return the next sibling or {@code null} if the content is the last one or has no parent.
+   */
+  static Content getNextSibling(Content content) {
+    return getNextSibling(content, indexInParent(content));
+  }
+
+  /**
+   * Returns the sibling that follows the given content, whose index in the content list of its parent is known, so
+   * navigating forwards through the siblings takes constant time per step.
+   *
+   * @param content the content.
+   * @param index   the index of the content in its parent (see {@link #indexInParent(Content, int)}).
+   * @return the next sibling (at {@code index + 1}) or {@code null} if the content is the last one or has no parent.
+   */
+  static Content getNextSibling(Content content, int index) {
+    return index < 0 ? null : getSibling(content, index + 1);
+  }
+
+  private static Content getSibling(Content content, int siblingIndex) {
+    Parent parent = content.getParent();
+    if (parent == null || siblingIndex < 0 || siblingIndex >= parent.getContentSize()) {
+      return null;
+    }
+    return parent.getContent(siblingIndex);
+  }
+
   /**
    * Check if index is a valid regarding the contents of the given element
    *
@@ -133,9 +229,11 @@ class JDomContentHelper {
    * @return true if index is valid index: <code>element.getContent(index)</code>
    */
   static boolean isIndexValid(int index, Element element) {
-    int numberOfContents = element.getContent().size();
+    int numberOfContents = element.getContentSize();
     if (index < 0 || numberOfContents == 0 || index >= numberOfContents) {
-      LOG.trace("Parent: {} has no content with index {}", JDomContentHelper.contentAsString(element), index);
+      if (LOG.isTraceEnabled()) {
+        LOG.trace("Parent: {} has no content with index {}", JDomContentHelper.contentAsString(element), index);
+      }
       return false;
     }
     return true;
@@ -151,7 +249,7 @@ class JDomContentHelper {
     int newLineCount = 0;
 
     Element parent = content.getParentElement();
-    int descendantIndex = parent.indexOf(content);
+    int descendantIndex = indexInParent(content);
     Content predecessor = JDomContentHelper.getPredecessorOfContentWithIndex(descendantIndex, parent);
 
     while (JDomContentHelper.hasNewlines(predecessor)) {
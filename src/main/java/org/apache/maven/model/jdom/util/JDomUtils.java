@@ -21,6 +21,7 @@ package org.apache.maven.model.jdom.util;
 
 import org.codehaus.plexus.util.StringUtils;
 import org.jdom2.Content;
+import org.jdom2.Document;
 import org.jdom2.Element;
 import org.jdom2.Parent;
 import org.jdom2.Text;
@@ -28,11 +29,16 @@ import org.jdom2.filter.ElementFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 import static java.lang.Math.max;
-import static org.jdom2.filter.Filters.textOnly;
 
 /**
  * Common JDom functions
@@ -44,6 +50,9 @@ public final class JDomUtils {
 
   private static final Logger LOG = LoggerFactory.getLogger(JDomUtils.class);
 
+  private static final String MODIFIED_PROPERTY = JDomUtils.class.getName() + ".modified";
+  private static final String MODIFICATION_LISTENERS_PROPERTY = JDomUtils.class.getName() + ".modificationListeners";
+
   private JDomUtils() {
     // noop
   }
@@ -72,6 +81,7 @@ public final class JDomUtils {
    * @param index   the index where the element should be inserted.
    */
   public static void addElement(Element element, Element root, int index) {
+    JDomChildIndex childIndex = JDomChildIndex.peek(root);
     root.addContent(index, element);
 
     String prependingElementName = ((Element) root.getContent(max(0, index - 1))).getName();
@@ -81,8 +91,58 @@ public final class JDomUtils {
       root.addContent(index, new Text("\n" + detectIndentation(root)));
     }
 
+    if (childIndex != null) {
+      childIndex.childAdded(element, index + 1);
+    }
+
     resetIndentations(root, detectIndentation(root));
     resetIndentations(element, detectIndentation(root) + "  ");
+    markModified(root);
+  }
+
+  /**
+   * Inserts new child elements to the given root element at the given index. Each element is prepended by a text
+   * element containing a linebreak followed by the indentation characters, like in
+   * {@link #addElement(Element, Element, int)}. But the indentation is detected only once and all elements are inserted
+   * into the contents of the root element in a single operation. The indentations of the root element's other
+   * contents are not modified.
+   *
+   * @param elements the elements to add.
+   * @param root     the root element.
+   * @param index    the index where the elements should be inserted.
+   */
+  public static void addElements(List<Element> elements, Element root, int index) {
+    if (elements.isEmpty()) {
+      return;
+    }
+
+    String indent = detectIndentation(root);
+    String prependingElementName = index > 0 ? ((Element) root.getContent(index - 1)).getName() : null;
+    List<Content> contents = new ArrayList<>(2 * elements.size());
+    for (Element element : elements) {
+      if (prependingElementName != null && isBlankLineBetweenElements(prependingElementName, element.getName(), root)) {
+        contents.add(new Text("\n\n" + indent));
+      } else {
+        contents.add(new Text("\n" + indent));
+      }
+      contents.add(element);
+      resetIndentations(element, indent + "  ");
+      List<Content> elementContents = element.getContent();
+      if (elementContents.size() > 1) {
+        // Reset indentation before the closing tag.
+        resetIndentation(elementContents.get(elementContents.size() - 1), indent);
+      }
+      prependingElementName = element.getName();
+    }
+
+    JDomChildIndex childIndex = JDomChildIndex.peek(root);
+    root.addContent(index, contents);
+    if (childIndex != null) {
+      for (int i = 0; i < elements.size(); i++) {
+        childIndex.childAdded(elements.get(i), index + 2 * i + 1);
+      }
+    }
+    markModified(root);
   }
 
   public static int getElementIndex(Element element, Element root) {
@@ -128,6 +188,7 @@ public final class JDomUtils {
 
     newElement = new Element(name, root.getNamespace());
     newElement.addContent("\n" + indent);
+    JDomChildIndex childIndex = JDomChildIndex.peek(root);
     root.addContent(index, newElement);
 
     String prependingElementName = ((Element) root.getContent(max(0, index - 1))).getName();
@@ -137,6 +198,10 @@ public final class JDomUtils {
       root.addContent(index, new Text("\n" + indent));
     }
 
+    if (childIndex != null) {
+      childIndex.childAdded(newElement, index + 1);
+    }
+    markModified(root);
     return newElement;
   }
 
@@ -178,7 +243,7 @@ public final class JDomUtils {
       for (int i = elementOrder.indexOf(name) - 1; i >= 0; i--) {
         String addAfterElementName = elementOrder.get(i);
         if (!addAfterElementName.equals("")) {
-          Element addAfterElement = root.getChild(addAfterElementName, root.getNamespace());
+          Element addAfterElement = getChildElement(addAfterElementName, root);
           if (addAfterElement != null) {
             addIndex = root.indexOf(addAfterElement) + 1;
             break;
@@ -210,18 +275,22 @@ public final class JDomUtils {
    * @return the detected indentation or {@code null} if not indentation can be detected.
    */
   public static String detectIndentation(Element element) {
-
-    for (Iterator<Text> iterator = element.getContent(textOnly()).iterator(); iterator.hasNext(); ) {
-      String text = iterator.next().getText();
-      int lastLsIndex = StringUtils.lastIndexOfAny(text, new String[]{"\n", "\r"});
-      if (lastLsIndex > -1) {
-        String indent = text.substring(lastLsIndex + 1);
-        if (iterator.hasNext()) {
-          // This should be the indentation of a child element.
-          return indent;
-        } else {
-          // This should be the indentation of the elements end tag.
-          return indent + "  ";
+    // The content list is scanned directly, a filtered view would be allocated and filter each content again.
+    List<Content> contents = element.getContent();
+    for (int i = 0; i < contents.size(); i++) {
+      Content content = contents.get(i);
+      if (isText(content)) {
+        String text = ((Text) content).getText();
+        int lastLsIndex = max(text.lastIndexOf('\n'), text.lastIndexOf('\r'));
+        if (lastLsIndex > -1) {
+          String indent = text.substring(lastLsIndex + 1);
+          if (hasTextAfter(contents, i)) {
+            // This should be the indentation of a child element.
+            return indent;
+          } else {
+            // This should be the indentation of the elements end tag.
+            return indent + "  ";
+          }
         }
       }
     }
@@ -234,6 +303,25 @@ public final class JDomUtils {
     return "";
   }
 
+  private static boolean hasTextAfter(List<Content> contents, int index) {
+    // Shortcut for the common case that the element ends with the whitespace before its end tag.
+    int lastIndex = contents.size() - 1;
+    if (lastIndex > index && isText(contents.get(lastIndex))) {
+      return true;
+    }
+    for (int i = index + 1; i < lastIndex; i++) {
+      if (isText(contents.get(i))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isText(Content content) {
+    // Like Filters.textOnly(), this excludes CDATA sections.
+    return content.getCType() == Content.CType.Text;
+  }
+
   /**
    * Creates a new element with the given name. The new element has the same namespace and the same indentation (before)
    * its closing tag) like the given parent element, but is not yet attached to it.
@@ -250,13 +338,171 @@ public final class JDomUtils {
 
   /**
    * Returns the given elements child element with the specified name.
+   * <p>
+   * When child element indexing is enabled for the document (see {@link #indexChildElements(Document)}), the child
+   * element is looked up from an index instead of scanning the contents of the parent.
    *
    * @param name   the name of the child element.
    * @param parent the parent of the requested element - must not be {@code null}.
    * @return the requested element or {@code null}.
    */
   public static Element getChildElement(String name, Element parent) {
-    return parent.getChild(name, parent.getNamespace());
+    return JDomChildIndex.getChild(name, parent);
+  }
+
+  /**
+   * Enables the indexing of child elements by name for the given document, which makes
+   * {@link #getChildElement(String, Element)} a constant time operation for elements with many children. The index of
+   * an element is built on first use, kept in sync with the modifications made by this class and dropped when the
+   * element is modified otherwise.
+   *
+   * @param document the document.
+   */
+  public static void indexChildElements(Document document) {
+    JDomChildIndex.enable(document);
+  }
+
+  /**
+   * Marks the document of the given content as modified (see {@link #isModified(Document)}). All methods of this class
+   * that modify the JDOM tree do this; code that modifies the tree directly must call it, too.
+   * <p>
+   * The element whose content was modified is remembered (see {@link #getModifiedElements(Document)}): the given
+   * content itself if it is an element, otherwise its parent element.
+   *
+   * @param content the element whose content was modified, other modified content or the parent of removed content.
+   *                Nothing is marked when the content is not attached to a document.
+   */
+  public static void markModified(Content content) {
+    Document document = content.getDocument();
+    if (document != null) {
+      Set<Element> modifiedElements = getModifiedElementSet(document);
+      if (modifiedElements == null) {
+        synchronized (document) {
+          modifiedElements = getModifiedElementSet(document);
+          if (modifiedElements == null) {
+            modifiedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+            document.setProperty(MODIFIED_PROPERTY, modifiedElements);
+          }
+        }
+      }
+      Element element = content instanceof Element ? (Element) content : content.getParentElement();
+      if (element != null) {
+        synchronized (modifiedElements) {
+          modifiedElements.add(element);
+        }
+      }
+
+      List<Consumer<Element>> listeners = getModificationListeners(document);
+      if (listeners != null) {
+        for (Consumer<Element> listener : listeners) {
+          listener.accept(element);
+        }
+      }
+    }
+  }
+
+  /**
+   * Registers a listener that is called by {@link #markModified(Content)} whenever the given document is modified. The
+   * listener is called on the modifying thread and should return quickly.
+   *
+   * @param document the document.
+   * @param listener the listener, which is passed the modified element (or {@code null} if content outside of the root
+   *                 element was modified).
+   */
+  public static void addModificationListener(Document document, Consumer<Element> listener) {
+    synchronized (document) {
+      List<Consumer<Element>> listeners = getModificationListeners(document);
+      if (listeners == null) {
+        listeners = new CopyOnWriteArrayList<>();
+        document.setProperty(MODIFICATION_LISTENERS_PROPERTY, listeners);
+      }
+      listeners.add(listener);
+    }
+  }
+
+  /**
+   * Removes a listener that has been registered by {@link #addModificationListener(Document, Consumer)}.
+   *
+   * @param document the document.
+   * @param listener the listener.
+   */
+  public static void removeModificationListener(Document document, Consumer<Element> listener) {
+    List<Consumer<Element>> listeners = getModificationListeners(document);
+    if (listeners != null) {
+      listeners.remove(listener);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Consumer<Element>> getModificationListeners(Document document) {
+    return (List<Consumer<Element>>) document.getProperty(MODIFICATION_LISTENERS_PROPERTY);
+  }
+
+  /**
+   * Checks whether the given document was modified since it was built (see {@link #markModified(Content)}).
+   *
+   * @param document the document.
+   * @return {@code true} if the document was modified.
+   */
+  public static boolean isModified(Document document) {
+    return document.getProperty(MODIFIED_PROPERTY) != null;
+  }
+
+  /**
+   * Returns the elements of the given document whose content was modified since the document was built (see
+   * {@link #markModified(Content)}).
+   *
+   * @param document the document.
+   * @return a copy of the modified elements, compared by identity.
+   */
+  public static Set<Element> getModifiedElements(Document document) {
+    Set<Element> copy = Collections.newSetFromMap(new IdentityHashMap<>());
+    Set<Element> modifiedElements = getModifiedElementSet(document);
+    if (modifiedElements != null) {
+      synchronized (modifiedElements) {
+        copy.addAll(modifiedElements);
+      }
+    }
+    return copy;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<Element> getModifiedElementSet(Document document) {
+    return (Set<Element>) document.getProperty(MODIFIED_PROPERTY);
+  }
+
+  /**
+   * Copies the given document. In contrast to {@link Document#clone()}, the copy does not share the
+   * {@link Document#getProperty(String) document properties} with the original: only the modifications are carried
+   * over (see {@link #getModifiedElements(Document)}), so the copy is modified if and only if the original is. Child
+   * element indexing and indentation caching must be enabled for the copy again, if required.
+   *
+   * @param document the document.
+   * @return the copy.
+   */
+  public static Document copyDocument(Document document) {
+    Document copy = new Document();
+    for (Content content : document.getContent()) {
+      copy.addContent(content.clone());
+    }
+
+    Set<Element> modifiedElements = getModifiedElementSet(document);
+    if (modifiedElements != null) {
+      Set<Element> copiedModifiedElements = Collections.newSetFromMap(new IdentityHashMap<>());
+      synchronized (modifiedElements) {
+        // The copy has the same structure, so the elements are mapped by walking both documents in parallel.
+        Iterator<Element> elements = document.getDescendants(new ElementFilter());
+        Iterator<Element> copiedElements = copy.getDescendants(new ElementFilter());
+        while (elements.hasNext() && copiedElements.hasNext()) {
+          Element copiedElement = copiedElements.next();
+          if (modifiedElements.contains(elements.next())) {
+            copiedModifiedElements.add(copiedElement);
+          }
+        }
+      }
+      copy.setProperty(MODIFIED_PROPERTY, copiedModifiedElements);
+    }
+    return copy;
   }
 
   /**
@@ -283,6 +529,7 @@ public final class JDomUtils {
    * @param removeChild the child element to be removed.
    */
   public static void removeChildElement(Element parent, Element removeChild) {
+    JDomChildIndex childIndex = JDomChildIndex.peek(parent);
     int index = parent.indexOf(removeChild);
     parent.removeContent(index--);
     if (index >= 0 && parent.getContent(index) instanceof Text) {
@@ -290,6 +537,10 @@ public final class JDomUtils {
       parent.removeContent(index);
     }
     removeChild.detach();
+    if (childIndex != null) {
+      childIndex.childRemoved(removeChild);
+    }
+    markModified(parent);
   }
 
   /**
@@ -299,10 +550,13 @@ public final class JDomUtils {
    * @param removeChild the child content to be removed.
    */
   public static void removeChildAndItsCommentFromContent(Element parent, Content removeChild) {
-    int index = parent.indexOf(removeChild);
+    int index = removeChild.getParent() == parent ? JDomContentHelper.indexInParent(removeChild) : -1;
     if (index >= 0) {
-      LOG.debug("");
-      LOG.debug("index [{}] => REMOVE: {}", index, JDomContentHelper.contentAsString(parent.getContent(index)));
+      JDomChildIndex childIndex = JDomChildIndex.peek(parent);
+      if (LOG.isDebugEnabled()) {
+        LOG.debug("");
+        LOG.debug("index [{}] => REMOVE: {}", index, JDomContentHelper.contentAsString(parent.getContent(index)));
+      }
       parent.removeContent(index);
       index--;
       Content elementToCheck = JDomContentHelper.getContentWithIndex(index, parent);
@@ -315,10 +569,18 @@ public final class JDomUtils {
           newIndex = removeContentAtIndexIfContentIsComment(newIndex, parent);
         } while (newIndex >= 0 && newIndex != prevIndex);
       } else if (JDomContentHelper.isMultiNewLine(elementToCheck)) {
-        removeFirstNewLineFromMultiline(parent.indexOf(elementToCheck), parent);
+        removeFirstNewLineFromMultiline(index, parent);
       }
       // Now detach removed child
       removeChild.detach();
+      if (childIndex != null) {
+        if (removeChild instanceof Element) {
+          childIndex.childRemoved((Element) removeChild);
+        } else {
+          childIndex.contentsChanged();
+        }
+      }
+      markModified(parent);
     }
   }
 
@@ -333,7 +595,9 @@ public final class JDomUtils {
       return false;
     }
     Content contentToRemove = parent.getContent(index);
-    LOG.debug("remove content => {} from parent tag: <{}>", JDomContentHelper.contentAsString(contentToRemove), parent.getName());
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("remove content => {} from parent tag: <{}>", JDomContentHelper.contentAsString(contentToRemove), parent.getName());
+    }
     parent.removeContent(index);
     contentToRemove.detach();
     return true;
@@ -346,9 +610,12 @@ public final class JDomUtils {
    */
   static void simpleRemoveAtIndex(Content content) {
     Element parent = content.getParentElement();
-    int index = parent.indexOf(content);
+    markModified(parent);
+    int index = JDomContentHelper.indexInParent(content);
     Content contentToRemove = parent.getContent(index);
-    LOG.debug("remove content => {} from parent tag: <{}>", JDomContentHelper.contentAsString(contentToRemove), parent.getName());
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("remove content => {} from parent tag: <{}>", JDomContentHelper.contentAsString(contentToRemove), parent.getName());
+    }
     parent.removeContent(index);
     contentToRemove.detach();
   }
@@ -364,7 +631,9 @@ public final class JDomUtils {
       return;
     }
     Content contentToRemove = parent.getContent(index);
-    LOG.debug("       Content to remove  : {}", JDomContentHelper.contentAsString(contentToRemove));
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("       Content to remove  : {}", JDomContentHelper.contentAsString(contentToRemove));
+    }
 
     // Remove first newline
     String text = contentToRemove.getValue().replaceFirst("\n", "");
@@ -386,7 +655,9 @@ public final class JDomUtils {
     // Add new Text content
     Text replacement = new Text(text);
     parent.addContent(index, replacement);
-    LOG.debug("       Content replacement: {}", JDomContentHelper.contentAsString(replacement));
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("       Content replacement: {}", JDomContentHelper.contentAsString(replacement));
+    }
   }
 
   /**
@@ -464,7 +735,12 @@ public final class JDomUtils {
       Text whitespaceTextContent = (Text) whitespaceContentBeforeElement;
       String whitespaces = whitespaceTextContent.getText();
       int lastLsIndex = StringUtils.lastIndexOfAny(whitespaces, new String[]{"\n", "\r"});
-      whitespaceTextContent.setText("\n" + whitespaces.substring(0, lastLsIndex) + indent);
+      String resetWhitespaces = "\n" + whitespaces.substring(0, lastLsIndex) + indent;
+      if (!resetWhitespaces.equals(whitespaces)) {
+        // Only rewrite changed whitespaces, which saves marking unchanged texts as modified.
+        markModified(whitespaceTextContent);
+        whitespaceTextContent.setText(resetWhitespaces);
+      }
     }
   }
 
@@ -495,6 +771,7 @@ public final class JDomUtils {
         }
       }
     }
+    markModified(element);
     if (text == null) {
       element.addContent(value);
     } else {
@@ -508,7 +785,7 @@ public final class JDomUtils {
   }
 
   public static Element rewriteElement(String name, String value, Element root) {
-    Element tagElement = root.getChild(name, root.getNamespace());
+    Element tagElement = getChildElement(name, root);
     if (tagElement != null) {
       if (value != null) {
         rewriteValue(tagElement, value);
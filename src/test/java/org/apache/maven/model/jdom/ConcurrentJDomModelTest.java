@@ -0,0 +1,137 @@
+package org.apache.maven.model.jdom;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Plugin;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link ConcurrentJDomModel} class.
+ */
+public class ConcurrentJDomModelTest {
+
+  private static final String POM = "<project>\n" +
+          "  <groupId>g</groupId>\n" +
+          "  <artifactId>a</artifactId>\n" +
+          "  <version>1.0</version>\n" +
+          "  <packaging>jar</packaging>\n" +
+          "  <properties>\n" +
+          "    <p>v</p>\n" +
+          "  </properties>\n" +
+          "  <dependencyManagement>\n" +
+          "    <dependencies>\n" +
+          "      <dependency><groupId>m</groupId><artifactId>n</artifactId><version>3</version></dependency>\n" +
+          "    </dependencies>\n" +
+          "  </dependencyManagement>\n" +
+          "  <dependencies>\n" +
+          "    <dependency><groupId>x</groupId><artifactId>y</artifactId><version>1</version></dependency>\n" +
+          "  </dependencies>\n" +
+          "  <build>\n" +
+          "    <plugins>\n" +
+          "      <plugin><groupId>p</groupId><artifactId>q</artifactId><version>2</version></plugin>\n" +
+          "    </plugins>\n" +
+          "  </build>\n" +
+          "</project>";
+
+  private ConcurrentJDomModel model;
+
+  @Before
+  public void setUp() throws Exception {
+    model = new ConcurrentJDomModel(new JDomModel(new SAXBuilder().build(new StringReader(POM))));
+  }
+
+  @Test
+  public void snapshots() {
+    assertEquals("g", model.getGroupId());
+    assertEquals("a", model.getArtifactId());
+    assertEquals("1.0", model.getVersion());
+    assertEquals("jar", model.getPackaging());
+
+    List<Dependency> dependencies = model.getDependencies();
+    assertEquals(1, dependencies.size());
+    assertEquals("x:y:jar", dependencies.get(0).getManagementKey());
+    assertEquals("1", dependencies.get(0).getVersion());
+    assertEquals("n", model.getManagedDependencies().get(0).getArtifactId());
+
+    List<Plugin> plugins = model.getBuildPlugins();
+    assertEquals(1, plugins.size());
+    assertEquals("p:q", plugins.get(0).getKey());
+    assertTrue(model.getManagedBuildPlugins().isEmpty());
+
+    Properties properties = model.getProperties();
+    assertEquals("v", properties.getProperty("p"));
+
+    // The snapshots are detached from the model.
+    dependencies.get(0).setVersion("2");
+    plugins.get(0).setVersion("3");
+    properties.setProperty("p", "w");
+    assertFalse(model.isModified());
+    assertEquals("1", model.getDependencies().get(0).getVersion());
+  }
+
+  @Test
+  public void write() {
+    model.update(m -> m.setVersion("2.0"));
+    assertEquals("1", model.write(m -> {
+      Dependency dependency = m.getDependencies().get(0);
+      String version = dependency.getVersion();
+      dependency.setVersion("2");
+      return version;
+    }));
+
+    assertTrue(model.isModified());
+    assertEquals("2.0", model.getVersion());
+    assertEquals("2", model.getDependencies().get(0).getVersion());
+  }
+
+  @Test
+  public void concurrentReadsAndWrites() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        futures.add(executor.submit(() -> {
+          for (int j = 0; j < 500; j++) {
+            // Writers keep the number of dependencies, so readers always see a consistent model.
+            assertEquals(1, model.getDependencies().size());
+            assertEquals("v", model.getProperties().getProperty("p"));
+          }
+        }));
+      }
+      futures.add(executor.submit(() -> {
+        for (int j = 0; j < 500; j++) {
+          String version = String.valueOf(j);
+          model.update(m -> {
+            m.getDependencies().remove(0);
+            Dependency dependency = new Dependency();
+            dependency.setGroupId("x");
+            dependency.setArtifactId("y");
+            dependency.setVersion(version);
+            m.getDependencies().add(dependency);
+          });
+        }
+      }));
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+    assertEquals("499", model.getDependencies().get(0).getVersion());
+  }
+}
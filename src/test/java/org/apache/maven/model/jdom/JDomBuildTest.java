@@ -26,6 +26,8 @@ import org.jdom2.input.SAXBuilder;
 import org.junit.Test;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEFAULT_GOAL;
@@ -38,8 +40,11 @@ import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_TEST_OUTPUT_D
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_TEST_SOURCE_DIRECTORY;
 import static org.apache.maven.model.jdom.util.JDomUtils.getChildElementTextTrim;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class JDomBuildTest {
 
@@ -89,11 +94,54 @@ public class JDomBuildTest {
     assertEquals(1, new JDomBuild(document.getRootElement()).getPlugins().size());
   }
 
-  // All other methods throw UnsupportedOperationException
+  @Test
+  public void testGetPluginsAsMap() throws Exception {
+    String content = "<build><plugins>" +
+            "<plugin><artifactId>maven-jar-plugin</artifactId></plugin>" +
+            "<plugin><groupId>org.codehaus.mojo</groupId><artifactId>exec-maven-plugin</artifactId></plugin>" +
+            "</plugins></build>";
+    Element buildElm = builder.build(new StringReader(content)).getRootElement();
+    JDomBuild build = new JDomBuild(buildElm);
+    Map<String, Plugin> pluginsAsMap = build.getPluginsAsMap();
+    assertEquals(asList("org.apache.maven.plugins:maven-jar-plugin", "org.codehaus.mojo:exec-maven-plugin"),
+            new ArrayList<>(pluginsAsMap.keySet()));
+    Plugin jarPlugin = pluginsAsMap.get("org.apache.maven.plugins:maven-jar-plugin");
+    assertSame(build.getPlugins().get(0), jarPlugin);
+
+    // The map is a live view.
+    Plugin plugin = new Plugin();
+    plugin.setGroupId("org.codehaus.mojo");
+    plugin.setArtifactId("build-helper-maven-plugin");
+    build.addPlugin(plugin);
+    assertTrue(pluginsAsMap.containsKey("org.codehaus.mojo:build-helper-maven-plugin"));
+
+    jarPlugin.setArtifactId("maven-war-plugin");
+    assertNull(pluginsAsMap.get("org.apache.maven.plugins:maven-jar-plugin"));
+    assertSame(jarPlugin, pluginsAsMap.get("org.apache.maven.plugins:maven-war-plugin"));
+
+    // Plugins without groupId are found with the default group id.
+    Plugin warPlugin = new Plugin();
+    warPlugin.setArtifactId("maven-war-plugin");
+    build.removePlugin(warPlugin);
+    assertEquals(2, pluginsAsMap.size());
+    assertFalse(pluginsAsMap.containsKey("org.apache.maven.plugins:maven-war-plugin"));
+    assertEquals(2, build.getPlugins().size());
+    assertEquals("exec-maven-plugin", buildElm.getChild("plugins").getChildren().get(0).getChildText("artifactId"));
 
-  @Test(expected = UnsupportedOperationException.class)
-  public void testFlushPluginMap() {
-    new JDomBuild(null).flushPluginMap();
+    build.flushPluginMap();
+    assertSame(pluginsAsMap, build.getPluginsAsMap());
+  }
+
+  @Test
+  public void testGetManagedPluginsAsMap() throws Exception {
+    String content = "<build><pluginManagement><plugins>" +
+            "<plugin><artifactId>maven-jar-plugin</artifactId><version>1</version></plugin>" +
+            "</plugins></pluginManagement></build>";
+    Element buildElm = builder.build(new StringReader(content)).getRootElement();
+    JDomBuild build = new JDomBuild(buildElm);
+    assertTrue(build.getPluginsAsMap().isEmpty());
+    assertEquals("1",
+            build.getPluginManagement().getPluginsAsMap().get("org.apache.maven.plugins:maven-jar-plugin").getVersion());
   }
 
   @Test
@@ -361,8 +409,5 @@ public class JDomBuildTest {
     assertEquals(2, build.getPlugins().size());
   }
 
-  @Test(expected = UnsupportedOperationException.class)
-  public void testGetPluginsAsMap() {
-    new JDomBuild(null).getPluginsAsMap();
-  }
+  // All other methods throw UnsupportedOperationException
 }
@@ -0,0 +1,85 @@
+package org.apache.maven.model.jdom;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.jdom2.Element;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Test;
+
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit test for the {@link JDomConfiguration} class.
+ */
+public class JDomConfigurationTest {
+
+  private static final String CONFIGURATION = "<configuration>\n" +
+          "  <source>8</source>\n" +
+          "  <excludes>\n" +
+          "    <exclude>a</exclude>\n" +
+          "    <exclude>b</exclude>\n" +
+          "  </excludes>\n" +
+          "  <target>8</target>\n" +
+          "</configuration>";
+
+  @Test
+  public void children() throws Exception {
+    JDomConfiguration configuration = parse(CONFIGURATION);
+
+    Xpp3Dom[] children = configuration.getChildren();
+    assertEquals(3, children.length);
+    assertEquals("source", children[0].getName());
+    assertEquals("excludes", children[1].getName());
+    assertEquals("target", children[2].getName());
+    assertSame(children[1], configuration.getChild("excludes"));
+    assertNull(configuration.getChild("includes"));
+    assertEquals(0, configuration.getChildren("includes").length);
+
+    Xpp3Dom[] excludes = configuration.getChild("excludes").getChildren("exclude");
+    assertEquals(2, excludes.length);
+    assertEquals("a", excludes[0].getValue());
+    assertEquals("b", excludes[1].getValue());
+  }
+
+  @Test
+  public void addChild() throws Exception {
+    JDomConfiguration configuration = parse(CONFIGURATION);
+    Xpp3Dom excludes = configuration.getChild("excludes");
+    assertEquals(2, excludes.getChildren().length);
+
+    Xpp3Dom exclude = new Xpp3Dom("exclude");
+    exclude.setValue("c");
+    excludes.addChild(exclude);
+
+    Xpp3Dom[] children = excludes.getChildren("exclude");
+    assertEquals(3, children.length);
+    assertEquals("c", children[2].getValue());
+
+    configuration.setConfigurationProperty("encoding", "UTF-8");
+    configuration.setConfigurationProperty("source", "11");
+    assertEquals(4, configuration.getChildren().length);
+    assertEquals("UTF-8", configuration.getChild("encoding").getValue());
+    assertEquals("11", configuration.getChild("source").getValue());
+  }
+
+  @Test
+  public void modificationsFromOutside() throws Exception {
+    JDomConfiguration configuration = parse(CONFIGURATION);
+    assertEquals(3, configuration.getChildren().length);
+
+    Element jdomElement = configuration.getJDomElement();
+    jdomElement.removeContent(jdomElement.getChild("source"));
+    jdomElement.addContent(new Element("encoding").setText("UTF-8"));
+
+    assertNull(configuration.getChild("source"));
+    assertEquals("UTF-8", configuration.getChild("encoding").getValue());
+    assertEquals(3, configuration.getChildren().length);
+  }
+
+  private static JDomConfiguration parse(String xml) throws Exception {
+    return new JDomConfiguration(new SAXBuilder().build(new StringReader(xml)).getRootElement());
+  }
+}
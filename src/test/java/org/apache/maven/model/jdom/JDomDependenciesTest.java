@@ -0,0 +1,92 @@
+package org.apache.maven.model.jdom;
+
+import org.apache.maven.model.Dependency;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class JDomDependenciesTest {
+
+  private JDomDependencies dependencies;
+
+  @Before
+  public void setUp() throws IOException, JDOMException {
+    String projectContent = "<project>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>g</groupId><artifactId>a</artifactId></dependency>\n" +
+            "    <dependency><groupId>g</groupId><artifactId>a</artifactId><classifier>tests</classifier></dependency>\n" +
+            "    <dependency><groupId>g</groupId><artifactId>b</artifactId><type>pom</type></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n";
+    Element project = new SAXBuilder().build(new StringReader(projectContent)).getRootElement();
+    dependencies = (JDomDependencies) new JDomModel(project).getDependencies();
+  }
+
+  @Test
+  public void find() {
+    assertSame(dependencies.get(0), dependencies.find("g", "a", null, null));
+    assertSame(dependencies.get(0), dependencies.find("g", "a", "jar", ""));
+    assertSame(dependencies.get(1), dependencies.find("g", "a", "jar", "tests"));
+    assertSame(dependencies.get(2), dependencies.find("g", "b", "pom", null));
+    assertNull(dependencies.find("g", "b", null, null));
+
+    assertTrue(dependencies.contains("g", "a", null, "tests"));
+    assertFalse(dependencies.contains("g", "c", null, null));
+  }
+
+  @Test
+  public void addAndRemove() {
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("g");
+    dependency.setArtifactId("c");
+    dependencies.add(0, dependency);
+    assertSame(dependencies.get(0), dependencies.find("g", "c", null, null));
+
+    Dependency removed = dependencies.removeByKey("g", "a", null, "tests");
+    assertEquals("tests", removed.getClassifier());
+    assertEquals(3, dependencies.size());
+    assertFalse(dependencies.contains("g", "a", null, "tests"));
+    assertTrue(dependencies.contains("g", "a", null, null));
+    assertNull(dependencies.removeByKey("g", "a", null, "tests"));
+
+    assertTrue(dependencies.remove(dependency));
+    assertFalse(dependencies.contains("g", "c", null, null));
+  }
+
+  @Test
+  public void removeAtIndex() {
+    // The dependency at index 1 has the same key as the one at index 0, which must not be removed instead.
+    Dependency first = dependencies.get(0);
+    Dependency removed = dependencies.remove(1);
+    assertEquals("tests", removed.getClassifier());
+    assertEquals(2, dependencies.size());
+    assertSame(first, dependencies.get(0));
+    assertSame(first, dependencies.find("g", "a", null, null));
+    assertNull(dependencies.find("g", "a", null, "tests"));
+    assertEquals(2, dependencies.getJDomElement().getChildren().size());
+  }
+
+  @Test
+  public void changeCoordinates() {
+    Dependency dependency = dependencies.get(2);
+    dependency.setArtifactId("c");
+    dependency.setType(null);
+    assertNull(dependencies.find("g", "b", "pom", null));
+    assertSame(dependency, dependencies.find("g", "c", null, null));
+
+    dependencies.get(0).setArtifactId("c");
+    assertSame(dependencies.get(0), dependencies.find("g", "c", null, null));
+    assertSame(dependencies.get(1), dependencies.find("g", "a", null, "tests"));
+  }
+}
@@ -0,0 +1,244 @@
+package org.apache.maven.model.jdom;
+
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.PluginExecution;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link JDomExecutions} class.
+ */
+public class JDomExecutionsTest {
+
+  private Element project;
+  private Plugin plugin;
+  private JDomExecutions executions;
+
+  @Before
+  public void setUp() throws IOException, JDOMException {
+    String projectContent = "<project>\n" +
+            "  <build>\n" +
+            "    <plugins>\n" +
+            "      <plugin>\n" +
+            "        <artifactId>maven-jar-plugin</artifactId>\n" +
+            "        <executions>\n" +
+            "          <execution>\n" +
+            "            <goals>\n" +
+            "              <goal>jar</goal>\n" +
+            "            </goals>\n" +
+            "          </execution>\n" +
+            "          <execution>\n" +
+            "            <id>tests</id>\n" +
+            "            <phase>package</phase>\n" +
+            "            <goals>\n" +
+            "              <goal>test-jar</goal>\n" +
+            "            </goals>\n" +
+            "          </execution>\n" +
+            "        </executions>\n" +
+            "      </plugin>\n" +
+            "    </plugins>\n" +
+            "  </build>\n" +
+            "</project>";
+    project = new SAXBuilder().build(new StringReader(projectContent)).getRootElement();
+    plugin = new JDomModel(project).getBuild().getPlugins().get(0);
+    executions = (JDomExecutions) plugin.getExecutions();
+  }
+
+  @Test
+  public void read() {
+    assertEquals(2, executions.size());
+    PluginExecution execution = executions.get(0);
+    assertEquals(PluginExecution.DEFAULT_EXECUTION_ID, execution.getId());
+    assertNull(execution.getPhase());
+    assertEquals(Collections.singletonList("jar"), execution.getGoals());
+    assertEquals("tests", executions.get(1).getId());
+    assertEquals("package", executions.get(1).getPhase());
+  }
+
+  @Test
+  public void find() {
+    assertSame(executions.get(0), executions.find(null));
+    assertSame(executions.get(0), executions.find("default"));
+    assertSame(executions.get(1), executions.find("tests"));
+    assertNull(executions.find("other"));
+
+    assertTrue(executions.contains("tests"));
+    assertFalse(executions.contains("other"));
+  }
+
+  @Test
+  public void addAndRemove() {
+    PluginExecution execution = new PluginExecution();
+    execution.setId("sources");
+    execution.setGoals(Arrays.asList("jar-no-fork", "test-jar-no-fork"));
+    executions.add(execution);
+    assertSame(executions.get(2), executions.find("sources"));
+    assertEquals(Arrays.asList("jar-no-fork", "test-jar-no-fork"), executions.get(2).getGoals());
+
+    assertSame(executions.get(0), executions.removeById(null));
+    assertNull(executions.removeById(null));
+    assertTrue(executions.remove(execution));
+    assertFalse(executions.contains("sources"));
+    assertEquals(1, executions.size());
+
+    executions.remove(0);
+    assertEquals("<plugin>\n" +
+            "        <artifactId>maven-jar-plugin</artifactId>\n" +
+            "      </plugin>", toString(plugin));
+
+    // Adding to the now empty executions restores the executions element.
+    executions.add(execution);
+    assertSame(plugin.getExecutions(), executions);
+    assertEquals("<plugin>\n" +
+            "        <artifactId>maven-jar-plugin</artifactId>\n" +
+            "        <executions>\n" +
+            "          <execution>\n" +
+            "            <id>sources</id>\n" +
+            "            <goals>\n" +
+            "              <goal>jar-no-fork</goal>\n" +
+            "              <goal>test-jar-no-fork</goal>\n" +
+            "            </goals>\n" +
+            "          </execution>\n" +
+            "        </executions>\n" +
+            "      </plugin>", toString(plugin));
+  }
+
+  @Test
+  public void addWithXpp3DomConfiguration() {
+    Xpp3Dom configuration = new Xpp3Dom("configuration");
+    Xpp3Dom classifier = new Xpp3Dom("classifier");
+    classifier.setValue("sources");
+    configuration.addChild(classifier);
+    Xpp3Dom excludes = new Xpp3Dom("excludes");
+    excludes.setAttribute("combine.children", "append");
+    Xpp3Dom exclude = new Xpp3Dom("exclude");
+    exclude.setValue("**/*.txt");
+    excludes.addChild(exclude);
+    configuration.addChild(excludes);
+
+    PluginExecution execution = new PluginExecution();
+    execution.setId("sources");
+    execution.setConfiguration(configuration);
+    executions.add(execution);
+
+    Xpp3Dom actual = (Xpp3Dom) executions.find("sources").getConfiguration();
+    assertEquals("sources", actual.getChild("classifier").getValue());
+    assertEquals("append", actual.getChild("excludes").getAttribute("combine.children"));
+    assertEquals("**/*.txt", actual.getChild("excludes").getChild("exclude").getValue());
+    assertTrue(toString(plugin).endsWith("          <execution>\n" +
+            "            <id>sources</id>\n" +
+            "            <configuration>\n" +
+            "              <classifier>sources</classifier>\n" +
+            "              <excludes combine.children=\"append\">\n" +
+            "                <exclude>**/*.txt</exclude>\n" +
+            "              </excludes>\n" +
+            "            </configuration>\n" +
+            "          </execution>\n" +
+            "        </executions>\n" +
+            "      </plugin>"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addWithUnsupportedConfiguration() {
+    PluginExecution execution = new PluginExecution();
+    execution.setId("sources");
+    execution.setConfiguration("<configuration/>");
+    executions.add(execution);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void addDuplicateId() {
+    PluginExecution execution = new PluginExecution();
+    execution.setId("tests");
+    executions.add(execution);
+  }
+
+  @Test
+  public void replace() {
+    PluginExecution execution = new PluginExecution();
+    execution.setId("tests");
+    execution.setPhase("verify");
+    PluginExecution replaced = executions.replace(execution);
+    assertEquals("package", replaced.getPhase());
+    assertEquals(2, executions.size());
+    assertSame(executions.get(1), executions.find("tests"));
+    assertEquals("verify", executions.get(1).getPhase());
+    assertTrue(executions.get(1).getGoals().isEmpty());
+
+    execution.setId("other");
+    assertNull(executions.replace(execution));
+    assertFalse(executions.contains("other"));
+  }
+
+  @Test
+  public void changeId() {
+    PluginExecution execution = executions.get(1);
+    execution.setId("test-jar");
+    assertNull(executions.find("tests"));
+    assertSame(execution, executions.find("test-jar"));
+
+    executions.get(0).setId("jar");
+    assertNull(executions.find(null));
+    assertSame(executions.get(0), executions.find("jar"));
+    assertEquals("jar", project.getChild("build").getChild("plugins").getChild("plugin").getChild("executions")
+            .getChild("execution").getChildText("id"));
+  }
+
+  @Test
+  public void getExecutionsAsMap() {
+    Map<String, PluginExecution> executionsAsMap = plugin.getExecutionsAsMap();
+    assertEquals(Arrays.asList("default", "tests"), new ArrayList<>(executionsAsMap.keySet()));
+    assertSame(executions.get(1), executionsAsMap.get("tests"));
+
+    // The map is a live view.
+    executions.removeById("tests");
+    plugin.flushExecutionMap();
+    assertEquals(Collections.singleton("default"), executionsAsMap.keySet());
+    assertNull(executionsAsMap.get("tests"));
+  }
+
+  @Test
+  public void setExecutions() {
+    String pluginContent = toString(plugin);
+    plugin.setExecutions(plugin.getExecutions());
+    assertEquals(pluginContent, toString(plugin));
+
+    PluginExecution execution = new PluginExecution();
+    execution.setPhase("verify");
+    plugin.setExecutions(Collections.singletonList(execution));
+    assertEquals(1, executions.size());
+    assertSame(executions.get(0), plugin.getExecutionsAsMap().get("default"));
+    assertEquals("<plugin>\n" +
+            "        <artifactId>maven-jar-plugin</artifactId>\n" +
+            "        <executions>\n" +
+            "          <execution>\n" +
+            "            <phase>verify</phase>\n" +
+            "          </execution>\n" +
+            "        </executions>\n" +
+            "      </plugin>", toString(plugin));
+  }
+
+  private static String toString(Plugin plugin) {
+    return new XMLOutputter(Format.getRawFormat().setLineSeparator("\n"))
+            .outputString(((JDomPlugin) plugin).getJDomElement());
+  }
+}
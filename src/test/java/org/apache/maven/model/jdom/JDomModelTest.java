@@ -19,6 +19,7 @@ package org.apache.maven.model.jdom;
  * under the License.
  */
 
+import org.apache.maven.model.Dependency;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.Scm;
 import org.jdom2.Document;
@@ -27,11 +28,15 @@ import org.jdom2.input.SAXBuilder;
 import org.junit.Test;
 
 import java.io.StringReader;
+import java.util.List;
 
 import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_VERSION;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class JDomModelTest {
 
@@ -58,6 +63,23 @@ public class JDomModelTest {
     assertNull(model.getScm());
   }
 
+  @Test
+  public void testIsModified() throws Exception {
+    String content = "<project>\n  <version>1.0</version>\n  <modules>\n    <module>a</module>\n  </modules>\n</project>";
+    JDomModel model = new JDomModel(builder.build(new StringReader(content)));
+    model.getDependencies();
+    model.getDependencyManagement();
+    model.getModules();
+    assertFalse(model.isModified());
+
+    model.setVersion("1.0");
+    assertTrue(model.isModified());
+
+    model = new JDomModel(builder.build(new StringReader(content)));
+    model.getModules().add("b");
+    assertTrue(model.isModified());
+  }
+
   @Test
   public void testSetVersion() throws Exception {
     String content = "<project></project>";
@@ -88,6 +110,27 @@ public class JDomModelTest {
     assertNull(model.getVersion());
   }
 
+  @Test
+  public void testLazyDependencies() throws Exception {
+    String content = "<project><dependencies><dependency><artifactId>a</artifactId></dependency></dependencies></project>";
+    Element projectElm = builder.build(new StringReader(content)).getRootElement();
+    Model model = new JDomModel(projectElm);
+
+    List<Dependency> dependencies = model.getDependencies();
+    assertSame(dependencies, model.getDependencies());
+    assertEquals("a", dependencies.get(0).getArtifactId());
+
+    Dependency dependency = new Dependency();
+    dependency.setArtifactId("b");
+    model.getDependencyManagement().addDependency(dependency);
+    assertSame(model.getDependencyManagement(), model.getDependencyManagement());
+    assertNotNull(projectElm.getChild("dependencyManagement"));
+
+    model.setDependencies(null);
+    assertTrue(model.getDependencies().isEmpty());
+    assertNull(projectElm.getChild("dependencies"));
+  }
+
   private String getVersion(Element projectElm) {
     return projectElm.getChildText(POM_ELEMENT_VERSION, projectElm.getNamespace());
   }
@@ -21,6 +21,8 @@ package org.apache.maven.model.jdom;
 
 import org.jdom2.Element;
 import org.jdom2.input.SAXBuilder;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
 import org.junit.Test;
 
 import java.io.InputStream;
@@ -30,9 +32,16 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.Writer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class JDomPropertiesTest {
 
@@ -128,6 +137,110 @@ public class JDomPropertiesTest {
     new JDomProperties(null).list((PrintWriter) null);
   }
 
+  @Test
+  public void testLiveEntrySet() throws Exception {
+    String content = "<properties>\n  <a>1</a>\n  <b>2</b>\n</properties>";
+    Element propertiesElm = builder.build(new StringReader(content)).getRootElement();
+    JDomProperties properties = new JDomProperties(propertiesElm);
+
+    Set<Map.Entry<Object, Object>> entrySet = properties.entrySet();
+    assertSame(entrySet, properties.entrySet());
+    assertEquals(2, entrySet.size());
+    assertEquals(2, properties.size());
+    assertFalse(properties.isEmpty());
+    assertTrue(properties.containsKey("a"));
+    assertFalse(properties.containsKey("c"));
+
+    assertEquals("1", properties.put("a", "3"));
+    assertNull(properties.put("c", "4"));
+    assertEquals("2", properties.remove("b"));
+    assertNull(properties.remove("b"));
+
+    Iterator<Map.Entry<Object, Object>> iterator = entrySet.iterator();
+    Map.Entry<Object, Object> entry = iterator.next();
+    assertEquals("a", entry.getKey());
+    assertEquals("3", entry.getValue());
+    entry = iterator.next();
+    assertEquals("c", entry.getKey());
+    assertEquals("4", entry.getValue());
+    assertFalse(iterator.hasNext());
+
+    assertEquals("<properties>\n  <a>3</a>\n  <c>4</c>\n</properties>", toString(propertiesElm));
+  }
+
+  @Test
+  public void testModificationsFromOutside() throws Exception {
+    String content = "<properties><a>1</a><b>2</b></properties>";
+    Element propertiesElm = builder.build(new StringReader(content)).getRootElement();
+    JDomProperties properties = new JDomProperties(propertiesElm);
+    assertEquals("1", properties.getProperty("a"));
+
+    propertiesElm.addContent(new Element("c").setText("3"));
+    assertEquals("3", properties.getProperty("c"));
+    assertEquals(3, properties.size());
+
+    propertiesElm.getChild("a").setName("d");
+    assertNull(properties.getProperty("a"));
+    assertEquals("1", properties.getProperty("d"));
+  }
+
+  @Test
+  public void testOtherNamespaces() throws Exception {
+    String content = "<properties xmlns=\"http://maven.apache.org/POM/4.0.0\" xmlns:x=\"urn:x\">" +
+            "<a>1</a><x:b>2</x:b></properties>";
+    Element propertiesElm = builder.build(new StringReader(content)).getRootElement();
+    JDomProperties properties = new JDomProperties(propertiesElm);
+
+    // Elements in other namespaces are not properties.
+    assertEquals(1, properties.size());
+    assertEquals(1, properties.entrySet().size());
+    assertNull(properties.getProperty("b"));
+    assertEquals("JDomProperties{\na=1\n}", properties.toString());
+
+    properties.remove("a");
+    assertTrue(properties.isEmpty());
+    assertEquals(1, propertiesElm.getChildren().size());
+  }
+
+  @Test
+  public void testPutAll() throws Exception {
+    String content = "<properties>\n  <a>1</a>\n  <b>2</b>\n</properties>";
+    Element propertiesElm = builder.build(new StringReader(content)).getRootElement();
+    JDomProperties properties = new JDomProperties(propertiesElm);
+
+    Map<String, String> changes = new LinkedHashMap<>();
+    changes.put("c", "3");
+    changes.put("a", "4");
+    changes.put("b", null);
+    changes.put("d", "5");
+    properties.putAll(changes);
+
+    assertEquals("<properties>\n  <a>4</a>\n  <c>3</c>\n  <d>5</d>\n</properties>", toString(propertiesElm));
+    assertEquals(3, properties.size());
+    assertEquals("5", properties.getProperty("d"));
+  }
+
+  @Test
+  public void testSetProperties() throws Exception {
+    String content = "<properties>\n  <a>1</a>\n  <b>2</b>\n  <a>3</a>\n</properties>";
+    Element propertiesElm = builder.build(new StringReader(content)).getRootElement();
+    JDomProperties properties = new JDomProperties(propertiesElm);
+
+    Map<String, String> newProperties = new LinkedHashMap<>();
+    newProperties.put("a", "4");
+    newProperties.put("c", "5");
+    properties.setProperties(newProperties);
+
+    assertEquals("<properties>\n  <a>4</a>\n  <c>5</c>\n</properties>", toString(propertiesElm));
+
+    properties.clear();
+    assertTrue(properties.isEmpty());
+  }
+
+  private static String toString(Element element) {
+    return new XMLOutputter(Format.getRawFormat().setLineSeparator("\n")).outputString(element);
+  }
+
   private String getProperty(Element propertiesElm, String key) {
     return propertiesElm.getChildText(key, propertiesElm.getNamespace());
   }
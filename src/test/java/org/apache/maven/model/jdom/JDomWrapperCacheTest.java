@@ -0,0 +1,158 @@
+package org.apache.maven.model.jdom;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.model.Profile;
+import org.jdom2.Element;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Unit test for the {@link JDomWrapperCache} class.
+ */
+public class JDomWrapperCacheTest {
+
+  private static final int PLUGINS = 50;
+
+  private JDomModel model;
+
+  @Before
+  public void setUp() throws Exception {
+    StringBuilder pom = new StringBuilder("<project>\n" +
+            "  <modules>\n" +
+            "    <module>a</module>\n" +
+            "  </modules>\n" +
+            "  <properties>\n" +
+            "    <p>v</p>\n" +
+            "  </properties>\n" +
+            "  <build>\n" +
+            "    <pluginManagement>\n" +
+            "      <plugins>\n" +
+            "      </plugins>\n" +
+            "    </pluginManagement>\n" +
+            "    <plugins>\n");
+    for (int i = 0; i < PLUGINS; i++) {
+      pom.append("      <plugin>\n" +
+              "        <artifactId>plugin-").append(i).append("</artifactId>\n" +
+              "        <executions>\n" +
+              "          <execution><id>e</id></execution>\n" +
+              "        </executions>\n" +
+              "      </plugin>\n");
+    }
+    pom.append("    </plugins>\n" +
+            "  </build>\n" +
+            "  <profiles>\n" +
+            "    <profile><id>p</id></profile>\n" +
+            "  </profiles>\n" +
+            "</project>");
+    model = new JDomModel(new SAXBuilder().build(new StringReader(pom.toString())));
+  }
+
+  @Test
+  public void identity() {
+    Build build = model.getBuild();
+    assertSame(build, model.getBuild());
+    assertSame(build.getPlugins(), model.getBuild().getPlugins());
+    assertSame(build.getPluginManagement(), model.getBuild().getPluginManagement());
+    assertSame(build.getPluginManagement().getPlugins(), model.getBuild().getPluginManagement().getPlugins());
+    assertSame(model.getModules(), model.getModules());
+    assertSame(model.getProperties(), model.getProperties());
+    assertSame(model.getProfiles(), model.getProfiles());
+    assertSame(model.getDependencies(), model.getDependencies());
+
+    Plugin plugin = build.getPlugins().get(0);
+    assertSame(plugin.getExecutions(), plugin.getExecutions());
+    assertSame(plugin.getDependencies(), plugin.getDependencies());
+  }
+
+  @Test
+  public void replacedOrRemovedElements() {
+    Build build = model.getBuild();
+    List<Plugin> plugins = build.getPlugins();
+
+    Plugin plugin = new Plugin();
+    plugin.setArtifactId("new-plugin");
+    plugins.add(plugin);
+    assertSame(plugins, model.getBuild().getPlugins());
+    Plugin added = plugins.get(PLUGINS);
+    assertTrue(added instanceof JDomPlugin);
+    assertEquals("new-plugin", added.getArtifactId());
+    plugins.remove(added);
+    assertEquals(PLUGINS, model.getBuild().getPlugins().size());
+
+    build.setPlugins(null);
+    assertTrue(model.getBuild().getPlugins().isEmpty());
+    build.setPlugins(Collections.singletonList(plugin));
+    assertNotSame(plugins, model.getBuild().getPlugins());
+    assertEquals(1, model.getBuild().getPlugins().size());
+
+    model.setBuild(null);
+    assertNull(model.getBuild());
+
+    List<Profile> profiles = model.getProfiles();
+    profiles.remove(profiles.get(0));
+    assertSame(profiles, model.getProfiles());
+    Profile profile = new Profile();
+    profile.setId("q");
+    profiles.add(profile);
+    assertEquals("q", model.getProfiles().get(0).getId());
+  }
+
+  @Test
+  public void isModifiedWithoutProfilesElement() {
+    List<Profile> profiles = model.getProfiles();
+    assertFalse(((JDomProfiles) profiles).isModified());
+
+    profiles.clear();
+    assertTrue(profiles.isEmpty());
+    assertTrue(((JDomProfiles) profiles).isModified());
+    assertTrue(((JDomProfiles) model.getProfiles()).isModified());
+  }
+
+  @Test
+  public void allocations() {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+    com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadMXBean;
+    assumeTrue(allocations.isThreadAllocatedMemorySupported() && allocations.isThreadAllocatedMemoryEnabled());
+    long threadId = Thread.currentThread().getId();
+
+    Element pluginsElement = ((JDomPlugins) model.getBuild().getPlugins()).getJDomElement();
+    int iterations = 1000;
+    int size = 0;
+    for (int i = 0; i < iterations; i++) {
+      size += model.getBuild().getPlugins().size();
+      size += new JDomPlugins(pluginsElement).size();
+    }
+
+    long before = allocations.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      size += model.getBuild().getPlugins().size();
+    }
+    long cached = allocations.getThreadAllocatedBytes(threadId) - before;
+
+    before = allocations.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      size += new JDomPlugins(pluginsElement).size();
+    }
+    long uncached = allocations.getThreadAllocatedBytes(threadId) - before;
+
+    assertEquals(4 * iterations * PLUGINS, size);
+    assertTrue("cached: " + cached + " bytes, uncached: " + uncached + " bytes", cached * 10 < uncached);
+  }
+}
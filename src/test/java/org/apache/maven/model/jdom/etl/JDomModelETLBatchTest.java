@@ -0,0 +1,137 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Arrays.asList;
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class JDomModelETLBatchTest {
+
+  private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<project>\n" +
+          "  <modelVersion>4.0.0</modelVersion>\n" +
+          "  <groupId>com.coremedia.test</groupId>\n" +
+          "  <artifactId>module-%d</artifactId>\n" +
+          "  <version>1.0-SNAPSHOT</version>\n" +
+          "</project>\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void run() throws IOException, InterruptedException {
+    List<File> pomFiles = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      File pomFile = folder.newFile("pom-" + i + ".xml");
+      FileUtils.fileWrite(pomFile, "UTF-8", String.format(POM, i));
+      pomFiles.add(pomFile);
+    }
+    File brokenPomFile = folder.newFile("broken-pom.xml");
+    FileUtils.fileWrite(brokenPomFile, "UTF-8", "<project>");
+    pomFiles.add(brokenPomFile);
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    Set<String> artifactIds = ConcurrentHashMap.newKeySet();
+    ModelETLBatchResult result = new JDomModelETLBatch(request, 4).run(pomFiles, modelETL -> {
+      modelETL.getModel().setVersion("1.0");
+      artifactIds.add(modelETL.getModel().getArtifactId());
+    });
+
+    assertEquals(21, result.getEntries().size());
+    assertEquals(20, result.getSuccessCount());
+    assertEquals(1, result.getFailures().size());
+    assertEquals(brokenPomFile, result.getFailures().get(0).getPomFile());
+    assertNotNull(result.getFailures().get(0).getException());
+    assertTrue(result.getFilesPerSecond() > 0);
+    assertEquals(20, artifactIds.size());
+
+    for (int i = 0; i < 20; i++) {
+      ModelETLBatchResult.Entry entry = result.getEntries().get(i);
+      assertEquals(pomFiles.get(i), entry.getPomFile());
+      assertTrue(entry.isSuccess());
+      assertEquals(String.format(POM, i).replace("1.0-SNAPSHOT", "1.0"), FileUtils.fileRead(pomFiles.get(i), "UTF-8"));
+    }
+  }
+
+  @Test
+  public void failingTransformationDoesNotWrite() throws IOException, InterruptedException {
+    File pomFile = folder.newFile("pom.xml");
+    FileUtils.fileWrite(pomFile, "UTF-8", String.format(POM, 0));
+
+    ModelETLBatchResult result = new JDomModelETLBatch(null, 2).run(pomFileList(pomFile), modelETL -> {
+      modelETL.getModel().setVersion("1.0");
+      throw new IllegalStateException("transformation failed");
+    });
+
+    assertFalse(result.getEntries().get(0).isSuccess());
+    assertEquals("transformation failed", result.getEntries().get(0).getException().getMessage());
+    assertEquals(String.format(POM, 0), FileUtils.fileRead(pomFile, "UTF-8"));
+  }
+
+  @Test
+  public void failingTransformationWithErrorDoesNotAbortBatch() throws IOException, InterruptedException {
+    File pomFile1 = folder.newFile("pom1.xml");
+    File pomFile2 = folder.newFile("pom2.xml");
+    FileUtils.fileWrite(pomFile1, "UTF-8", String.format(POM, 1));
+    FileUtils.fileWrite(pomFile2, "UTF-8", String.format(POM, 2));
+
+    ModelETLBatchResult result = new JDomModelETLBatch(null, 1).run(asList(pomFile1, pomFile2), modelETL -> {
+      if (modelETL.getModel().getArtifactId().endsWith("1")) {
+        throw new AssertionError("transformation failed");
+      }
+      modelETL.getModel().setVersion("2.0");
+    });
+
+    assertFalse(result.getEntries().get(0).isSuccess());
+    assertTrue(result.getEntries().get(0).getException() instanceof AssertionError);
+    assertTrue(result.getEntries().get(1).isSuccess());
+    assertEquals(1, result.getFailures().size());
+  }
+
+  @Test
+  public void skipUnmodified() throws IOException, InterruptedException {
+    List<File> pomFiles = new ArrayList<>();
+    for (int i = 0; i < 2; i++) {
+      File pomFile = folder.newFile("pom-" + i + ".xml");
+      FileUtils.fileWrite(pomFile, "UTF-8", String.format(POM, i));
+      assertTrue(pomFile.setLastModified(0));
+      pomFiles.add(pomFile);
+    }
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    request.setSkipUnmodified(true);
+    ModelETLBatchResult result = new JDomModelETLBatch(request, 2).run(pomFiles, modelETL -> {
+      if ("module-0".equals(modelETL.getModel().getArtifactId())) {
+        modelETL.getModel().setVersion("1.0");
+      }
+    });
+
+    assertEquals(1, result.getModifiedCount());
+    assertTrue(result.getEntries().get(0).isModified());
+    assertFalse(result.getEntries().get(1).isModified());
+    assertTrue(pomFiles.get(0).lastModified() > 0);
+    assertEquals(0, pomFiles.get(1).lastModified());
+  }
+
+  private static List<File> pomFileList(File pomFile) {
+    List<File> pomFiles = new ArrayList<>();
+    pomFiles.add(pomFile);
+    return pomFiles;
+  }
+}
@@ -0,0 +1,64 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for the {@link JDomModelETL#build(String)} method.
+ */
+public class JDomModelETLBuildTest {
+
+  private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<!DOCTYPE project [ <!ENTITY e \"<project>\"> ]>\n" +
+          "<!-- intro -->\n" +
+          "<project>\n" +
+          "  <version>1.0</version>\n" +
+          "</project>\n" +
+          "<!-- outtro -->\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void keepPrologAndEpilogWithoutRootElementLocation() throws IOException, JDOMException {
+    assertPrologAndEpilogKept(false);
+  }
+
+  @Test
+  public void keepPrologAndEpilogWithoutRootElementLocationWithIncrementalSave() throws IOException, JDOMException {
+    assertPrologAndEpilogKept(true);
+  }
+
+  @Test(expected = JDOMException.class)
+  public void rootElementNotLocated() throws JDOMException {
+    new JDomModelETL().setIntroAndOuttro("<project/>", 0, 0);
+  }
+
+  private void assertPrologAndEpilogKept(boolean incrementalSave) throws IOException, JDOMException {
+    File pomFile = folder.newFile();
+    FileUtils.fileWrite(pomFile, "UTF-8", POM);
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    request.setIncrementalSave(incrementalSave);
+    JDomModelETL modelETL = new JDomModelETLFactory().newInstance(request);
+    // A plain builder does not record the location of the root element, so the source is cut lexically.
+    modelETL.setSAXBuilder(new SAXBuilder());
+    modelETL.extract(pomFile);
+    modelETL.getModel().setVersion("2.0");
+
+    File targetFile = folder.newFile();
+    modelETL.load(targetFile);
+    assertEquals(POM.replace("1.0</version>", "2.0</version>"), FileUtils.fileRead(targetFile, "UTF-8"));
+  }
+}
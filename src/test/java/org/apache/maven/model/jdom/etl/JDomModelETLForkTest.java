@@ -0,0 +1,119 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.apache.maven.model.Dependency;
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.JDOMException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link JDomModelETL#fork()} method.
+ */
+public class JDomModelETLForkTest {
+
+  private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<!-- intro -->\n" +
+          "<project>\n" +
+          "  <modelVersion>4.0.0</modelVersion>\n" +
+          "  <groupId>g</groupId>\n" +
+          "  <artifactId>a</artifactId>\n" +
+          "  <version>1.0</version>\n" +
+          "  <dependencies>\n" +
+          "    <dependency><groupId>x</groupId><artifactId>y</artifactId><version>1</version></dependency>\n" +
+          "  </dependencies>\n" +
+          "</project>\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void forksAreIndependent() throws IOException, JDOMException {
+    assertForksAreIndependent(new JDomModelETLFactory().newInstance(newRequest(false)));
+  }
+
+  @Test
+  public void forksAreIndependentWithStAX() throws IOException, JDOMException {
+    assertForksAreIndependent(new JDomStAXModelETLFactory().newInstance(newRequest(false)));
+  }
+
+  @Test
+  public void forksAreIndependentWithIncrementalSave() throws IOException, JDOMException {
+    assertForksAreIndependent(new JDomModelETLFactory().newInstance(newRequest(true)));
+  }
+
+  @Test
+  public void modificationsAreCopied() throws IOException, JDOMException {
+    JDomModelETL modelETL = new JDomModelETLFactory().newInstance(newRequest(true));
+    modelETL.extract(newPomFile());
+    assertFalse(modelETL.fork().isModified());
+
+    modelETL.getModel().setVersion("2.0");
+    JDomModelETL fork = modelETL.fork();
+    assertTrue(fork.isModified());
+    fork.getModel().setArtifactId("b");
+
+    assertEquals(POM.replace("<version>1.0", "<version>2.0"), load(modelETL));
+    assertEquals(POM.replace("<version>1.0", "<version>2.0").replace("<artifactId>a", "<artifactId>b"), load(fork));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void notExtracted() {
+    new JDomModelETLFactory().newInstance(newRequest(false)).fork();
+  }
+
+  private void assertForksAreIndependent(JDomModelETL modelETL) throws IOException, JDOMException {
+    File pomFile = newPomFile();
+    modelETL.extract(pomFile);
+
+    JDomModelETL fork1 = modelETL.fork();
+    JDomModelETL fork2 = modelETL.fork();
+    assertNotSame(modelETL.getModel(), fork1.getModel());
+    assertEquals(pomFile, fork1.getModel().getPomFile());
+
+    fork1.getModel().setVersion("2.0");
+    fork2.getModel().getDependencies().get(0).setVersion("2");
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("z");
+    dependency.setArtifactId("z");
+    fork2.getModel().getDependencies().add(dependency);
+
+    assertFalse(modelETL.isModified());
+    assertEquals(POM, load(modelETL));
+    assertEquals(POM.replace("<version>1.0", "<version>2.0"), load(fork1));
+    assertEquals(POM.replace("<version>1</version>", "<version>2</version>").replace("  </dependencies>",
+            "    <dependency>\n" +
+            "      <groupId>z</groupId>\n" +
+            "      <artifactId>z</artifactId>\n" +
+            "    </dependency>\n" +
+            "  </dependencies>"), load(fork2));
+  }
+
+  private ModelETLRequest newRequest(boolean incrementalSave) {
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    request.setIncrementalSave(incrementalSave);
+    return request;
+  }
+
+  private File newPomFile() throws IOException {
+    File pomFile = folder.newFile();
+    FileUtils.fileWrite(pomFile, "UTF-8", POM);
+    return pomFile;
+  }
+
+  private String load(JDomModelETL modelETL) throws IOException {
+    File targetFile = folder.newFile();
+    modelETL.load(targetFile);
+    return FileUtils.fileRead(targetFile, "UTF-8");
+  }
+}
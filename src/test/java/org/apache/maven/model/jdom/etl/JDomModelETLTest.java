@@ -17,6 +17,18 @@ public class JDomModelETLTest extends AbstractJDomModelEtlIT {
     assertTransformationWithCleanup();
   }
 
+  @Test
+  public void keepPrologAndEpilog() throws IOException {
+    subjectModel.setVersion("1.1-SNAPSHOT");
+    assertTransformation();
+  }
+
+  @Test
+  public void keepDocType() throws IOException {
+    subjectModel.setVersion("1.1-SNAPSHOT");
+    assertTransformation();
+  }
+
   @Test
   public void removeNewLines() throws IOException {
     assertTransformationWithCleanup();
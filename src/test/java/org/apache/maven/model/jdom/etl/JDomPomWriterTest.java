@@ -0,0 +1,172 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.JDOMException;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.WINDOWS_LS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for the {@link JDomPomWriter} class.
+ */
+public class JDomPomWriterTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void addSchema() throws IOException, JDOMException {
+    String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <build><plugins><plugin/></plugins></build>\n" +
+            "</project>\n";
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    request.setAddSchema(true);
+
+    assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"" +
+            " xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\"" +
+            " xsi:schemaLocation=\"http://maven.apache.org/POM/4.0.0 http://maven.apache.org/maven-v4_0_0.xsd\">\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <build><plugins><plugin /></plugins></build>\n" +
+            "</project>\n", extractAndLoad(pom, "UTF-8", request));
+  }
+
+  @Test
+  public void keepEncoding() throws IOException, JDOMException {
+    String pom = "<?xml version=\"1.0\" encoding=\"ISO-8859-1\"?>\n" +
+            "<project>\n" +
+            "  <name>Müller</name>\n" +
+            "</project>\n";
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+
+    assertEquals(pom, extractAndLoad(pom, "ISO-8859-1", request));
+  }
+
+  @Test
+  public void windowsLineSeparators() throws IOException, JDOMException {
+    String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" +
+            "<project>\r\n" +
+            "  <!-- multi\r\n  line -->\r\n" +
+            "  <name><![CDATA[multi\r\n  line]]></name>\r\n" +
+            "</project>\r\n";
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(WINDOWS_LS);
+
+    assertEquals(pom, extractAndLoad(pom, "UTF-8", request));
+    assertEquals(pom, extractAndLoad(pom.replace("\r\n", "\n"), "UTF-8", request));
+  }
+
+  @Test
+  public void incrementalSave() throws IOException, JDOMException {
+    String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <version>1.0</version>\n" +
+            "  <description>a &gt; b</description>\n" +
+            "  <build><plugins><plugin/></plugins></build>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n";
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    request.setIncrementalSave(true);
+
+    assertEquals(pom, extractAndLoad(pom, "UTF-8", request, model -> {
+    }));
+
+    assertEquals(pom.replace("<version>1.0", "<version>2.0"), extractAndLoad(pom, "UTF-8", request, model -> model.setVersion("2.0")));
+
+    String expected = pom.replace("  </dependencies>",
+            "    <dependency>\n" +
+            "      <groupId>z</groupId>\n" +
+            "      <artifactId>z</artifactId>\n" +
+            "    </dependency>\n" +
+            "  </dependencies>");
+    assertEquals(expected, extractAndLoad(pom, "UTF-8", request, model -> {
+      Dependency dependency = new Dependency();
+      dependency.setGroupId("z");
+      dependency.setArtifactId("z");
+      model.getDependencies().add(dependency);
+    }));
+  }
+
+  @Test
+  public void incrementalSaveWithRemovals() throws IOException, JDOMException {
+    String pom = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\r\n" +
+            "<!-- header -->\r\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\"\r\n" +
+            "         xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\">\r\n" +
+            "  <modelVersion>4.0.0</modelVersion>\r\n" +
+            "  <groupId>g</groupId>\r\n" +
+            "  <artifactId>a</artifactId>\r\n" +
+            "  <version>1.0</version>\r\n" +
+            "  <description><![CDATA[a > b]]> &amp; c</description>\r\n" +
+            "  <dependencies>\r\n" +
+            "    <!-- first -->\r\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId></dependency>\r\n" +
+            "    <!-- second -->\r\n" +
+            "    <dependency><groupId>x</groupId><artifactId>z</artifactId></dependency>\r\n" +
+            "  </dependencies>\r\n" +
+            "</project>\r\n";
+
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(WINDOWS_LS);
+    request.setIncrementalSave(true);
+
+    String expected = pom
+            .replace("<version>1.0", "<version>2.0")
+            .replace("    <!-- first -->\r\n" +
+                    "    <dependency><groupId>x</groupId><artifactId>y</artifactId></dependency>\r\n", "");
+    assertEquals(expected, extractAndLoad(pom, "UTF-8", request, model -> {
+      model.setVersion("2.0");
+      model.getDependencies().remove(0);
+    }));
+
+    expected = pom.replace("  <dependencies>\r\n" +
+            "    <!-- first -->\r\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId></dependency>\r\n" +
+            "    <!-- second -->\r\n" +
+            "    <dependency><groupId>x</groupId><artifactId>z</artifactId></dependency>\r\n" +
+            "  </dependencies>\r\n", "");
+    assertEquals(expected, extractAndLoad(pom, "UTF-8", request, model -> model.getDependencies().clear()));
+  }
+
+  private String extractAndLoad(String pom, String encoding, ModelETLRequest request) throws IOException, JDOMException {
+    return extractAndLoad(pom, encoding, request, model -> {
+    });
+  }
+
+  private String extractAndLoad(String pom, String encoding, ModelETLRequest request, Consumer<Model> transformation)
+          throws IOException, JDOMException {
+    File pomFile = folder.newFile();
+    FileUtils.fileWrite(pomFile, encoding, pom);
+
+    JDomModelETL modelETL = new JDomModelETLFactory().newInstance(request);
+    modelETL.extract(pomFile);
+    transformation.accept(modelETL.getModel());
+    File targetFile = folder.newFile();
+    modelETL.load(targetFile);
+    return FileUtils.fileRead(targetFile, encoding);
+  }
+}
@@ -0,0 +1,30 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.junit.runners.Parameterized.Parameters;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Runs the {@link JDomModelETLTest} tests with the {@link JDomStAXModelETL}.
+ */
+public class JDomStAXModelETLTest extends JDomModelETLTest {
+
+  /**
+   * Incremental saving is not supported by the {@link JDomStAXModelETL}.
+   */
+  @Parameters(name = "incrementalSave={0}")
+  public static List<Boolean> incrementalSave() {
+    return Collections.singletonList(false);
+  }
+
+  @Override
+  protected Class<?> getTestResourceClass() {
+    return JDomModelETLTest.class;
+  }
+
+  @Override
+  protected JDomModelETL newModelETL(ModelETLRequest modelETLRequest) {
+    return new JDomStAXModelETLFactory().newInstance(modelETLRequest);
+  }
+}
@@ -0,0 +1,147 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.JDOMException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+/**
+ * Unit test for the {@link ModelETLDocumentCache} class.
+ */
+public class ModelETLDocumentCacheTest {
+
+  private static final String POM = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+          "<!-- intro -->\n" +
+          "<project>\n" +
+          "  <modelVersion>4.0.0</modelVersion>\n" +
+          "  <groupId>g</groupId>\n" +
+          "  <artifactId>a</artifactId>\n" +
+          "  <version>1.0</version>\n" +
+          "</project>\n" +
+          "<!-- outtro -->\n";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private ModelETLRequest request;
+
+  @Before
+  public void setUp() {
+    request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+  }
+
+  @Test
+  public void hitsAndMisses() throws IOException, JDOMException {
+    File pomFile = newPomFile(POM);
+    ModelETLDocumentCache cache = new ModelETLDocumentCache(1024 * 1024);
+
+    JDomModelETL first = extract(cache, pomFile);
+    JDomModelETL second = extract(cache, pomFile);
+
+    assertEquals(1, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getDocumentCount());
+    assertEquals(POM.length() * ModelETLDocumentCache.BYTES_PER_SOURCE_CHAR, cache.getSize());
+    assertNotSame(first.getModel(), second.getModel());
+    assertEquals(POM, load(second));
+  }
+
+  @Test
+  public void copiesAreIndependent() throws IOException, JDOMException {
+    File pomFile = newPomFile(POM);
+    ModelETLDocumentCache cache = new ModelETLDocumentCache(1024 * 1024);
+
+    JDomModelETL first = extract(cache, pomFile);
+    first.getModel().setVersion("2.0");
+    assertEquals(POM.replace("<version>1.0", "<version>2.0"), load(first));
+
+    JDomModelETL second = extract(cache, pomFile);
+    assertEquals("1.0", second.getModel().getVersion());
+    assertEquals(POM, load(second));
+  }
+
+  @Test
+  public void changedFile() throws IOException, JDOMException {
+    File pomFile = newPomFile(POM);
+    ModelETLDocumentCache cache = new ModelETLDocumentCache(1024 * 1024);
+
+    extract(cache, pomFile);
+    FileUtils.fileWrite(pomFile, "UTF-8", POM.replace("<version>1.0", "<version>3.0"));
+    JDomModelETL modelETL = extract(cache, pomFile);
+
+    assertEquals(2, cache.getMissCount());
+    assertEquals(0, cache.getHitCount());
+    assertEquals("3.0", modelETL.getModel().getVersion());
+  }
+
+  @Test
+  public void requestSettings() throws IOException, JDOMException {
+    File pomFile = newPomFile(POM);
+    ModelETLDocumentCache cache = new ModelETLDocumentCache(1024 * 1024);
+
+    extract(cache, pomFile);
+    request.setIncrementalSave(true);
+    JDomModelETL modelETL = extract(cache, pomFile);
+    modelETL.getModel().setVersion("2.0");
+    assertEquals(2, cache.getMissCount());
+    assertEquals(POM.replace("<version>1.0", "<version>2.0"), load(modelETL));
+
+    // The element spans are copied along with the cached document.
+    modelETL = extract(cache, pomFile);
+    modelETL.getModel().setArtifactId("b");
+    assertEquals(1, cache.getHitCount());
+    assertEquals(POM.replace("<artifactId>a", "<artifactId>b"), load(modelETL));
+  }
+
+  @Test
+  public void eviction() throws IOException, JDOMException {
+    File pomFile1 = newPomFile(POM);
+    File pomFile2 = newPomFile(POM);
+    ModelETLDocumentCache cache = new ModelETLDocumentCache(POM.length() * ModelETLDocumentCache.BYTES_PER_SOURCE_CHAR);
+
+    extract(cache, pomFile1);
+    extract(cache, pomFile2);
+    assertEquals(1, cache.getDocumentCount());
+    assertEquals(1, cache.getEvictionCount());
+
+    extract(cache, pomFile2);
+    extract(cache, pomFile1);
+    assertEquals(1, cache.getHitCount());
+    assertEquals(3, cache.getMissCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void negativeMaxSize() {
+    new ModelETLDocumentCache(-1);
+  }
+
+  private File newPomFile(String pom) throws IOException {
+    File pomFile = folder.newFile();
+    FileUtils.fileWrite(pomFile, "UTF-8", pom);
+    return pomFile;
+  }
+
+  private JDomModelETL extract(ModelETLDocumentCache cache, File pomFile) throws IOException, JDOMException {
+    JDomModelETLFactory factory = new JDomModelETLFactory();
+    factory.setDocumentCache(cache);
+    JDomModelETL modelETL = factory.newInstance(request);
+    modelETL.extract(pomFile);
+    return modelETL;
+  }
+
+  private String load(JDomModelETL modelETL) throws IOException {
+    File targetFile = folder.newFile();
+    modelETL.load(targetFile);
+    return FileUtils.fileRead(targetFile, "UTF-8");
+  }
+}
@@ -0,0 +1,125 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.File;
+import java.io.IOException;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Unit test for the {@link PomHeader} class.
+ */
+public class PomHeaderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void peek() throws IOException, XMLStreamException {
+    PomHeader header = peek("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<project xmlns=\"http://maven.apache.org/POM/4.0.0\">\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <parent>\n" +
+            "    <groupId>g</groupId>\n" +
+            "    <artifactId>parent</artifactId>\n" +
+            "    <version>1</version>\n" +
+            "    <relativePath>../parent</relativePath>\n" +
+            "  </parent>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <packaging>pom</packaging>\n" +
+            "  <name><!-- comment --> Name </name>\n" +
+            "  <modules>\n" +
+            "    <module> m1 </module>\n" +
+            "    <!-- <module>m2</module> -->\n" +
+            "    <module>m3</module>\n" +
+            "  </modules>\n" +
+            "  <properties><p>v</p></properties>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId><version>2</version></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n");
+
+    assertNull(header.getGroupId());
+    assertEquals("a", header.getArtifactId());
+    assertNull(header.getVersion());
+    assertEquals("pom", header.getPackaging());
+    assertEquals("g", header.getParent().getGroupId());
+    assertEquals("parent", header.getParent().getArtifactId());
+    assertEquals("1", header.getParent().getVersion());
+    assertEquals(asList("m1", "m3"), header.getModules());
+  }
+
+  @Test
+  public void peekWithoutParentAndModules() throws IOException, XMLStreamException {
+    PomHeader header = peek("<project>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <version>1</version>\n" +
+            "</project>\n");
+
+    assertEquals("g:a:1", header.toString());
+    assertNull(header.getPackaging());
+    assertNull(header.getParent());
+    assertEquals(emptyList(), header.getModules());
+  }
+
+  @Test
+  public void peekHeaderAfterBody() throws IOException, XMLStreamException {
+    PomHeader header = peek("<project>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <version>1</version>\n" +
+            "  <build>\n" +
+            "    <plugins><plugin><artifactId>p</artifactId><version>3</version></plugin></plugins>\n" +
+            "  </build>\n" +
+            "  <packaging>pom</packaging>\n" +
+            "  <modules>\n" +
+            "    <module>m</module>\n" +
+            "  </modules>\n" +
+            "  <profiles><profile><modules><module>p</module></modules></profile></profiles>\n" +
+            "</project>\n");
+
+    assertEquals("1", header.getVersion());
+    assertEquals("pom", header.getPackaging());
+    assertNull(header.getParent());
+    assertEquals(singletonList("m"), header.getModules());
+  }
+
+  @Test
+  public void peekWithDocType() throws IOException, XMLStreamException {
+    PomHeader header = peek("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<!DOCTYPE project [\n" +
+            "  <!ENTITY version \"1\">\n" +
+            "]>\n" +
+            "<!-- comment -->\n" +
+            "<project>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <version>&version;</version>\n" +
+            "  <modules>\n" +
+            "    <module>b</module>\n" +
+            "  </modules>\n" +
+            "</project>\n");
+
+    assertEquals("1", header.getVersion());
+    assertEquals(singletonList("b"), header.getModules());
+
+    assertEquals("a", peek("<!DOCTYPE project>\n" +
+            "<project><groupId>g</groupId><artifactId>a</artifactId><version>1</version></project>\n").getArtifactId());
+  }
+
+  private PomHeader peek(String pom) throws IOException, XMLStreamException {
+    File pomFile = folder.newFile();
+    FileUtils.fileWrite(pomFile, "UTF-8", pom);
+    return PomHeader.peek(pomFile);
+  }
+}
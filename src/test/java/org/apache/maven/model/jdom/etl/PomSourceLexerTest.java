@@ -0,0 +1,42 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.WINDOWS_LS;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for the {@link PomSourceLexer} class.
+ */
+public class PomSourceLexerTest {
+
+  @Test
+  public void normalizeLineSeparators() throws IOException {
+    String source = "<a>\r\n<b\r>x\ry</b>\n<!-- \r\n -->\r</a>";
+    assertEquals("<a>\r\n<b\r\n>x\r\ny</b>\r\n<!-- \r\n -->\r\n</a>", lex(source, WINDOWS_LS, false));
+    assertEquals("<a>\n<b\n>x\ny</b>\n<!-- \n -->\n</a>", lex(source, UNIX_LS, false));
+  }
+
+  @Test
+  public void collapseTagWhitespace() throws IOException {
+    String source = "<?xml version=\"1.0\"  encoding=\"UTF-8\"?>\n" +
+            "<a  b=\"x  y\"\n   c='>  '\t/>\n" +
+            "<!--  <a  b>  -->\n" +
+            "<![CDATA[  <a  b>  ]]>\n" +
+            "<a\n>  text  </a  >";
+    assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+            "<a b=\"x  y\" c='>  '\t/>\n" +
+            "<!--  <a  b>  -->\n" +
+            "<![CDATA[  <a  b>  ]]>\n" +
+            "<a\n>  text  </a >", lex(source, UNIX_LS, true));
+    assertEquals("<a b=\"\" c=\"\" />", lex("<a\r\nb=\"\"\rc=\"\"\n/>", WINDOWS_LS, true));
+  }
+
+  private static String lex(String source, String lineSeparator, boolean collapseTagWhitespace) throws IOException {
+    return PomSourceLexer.read(new StringReader(source), lineSeparator, collapseTagWhitespace);
+  }
+}
@@ -0,0 +1,164 @@
+package org.apache.maven.model.jdom.etl;
+
+import org.apache.maven.model.Dependency;
+import org.apache.maven.model.Model;
+import org.codehaus.plexus.util.FileUtils;
+import org.jdom2.JDOMException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
+import static org.apache.maven.model.jdom.etl.ReactorIndex.Reference.DEPENDENCY;
+import static org.apache.maven.model.jdom.etl.ReactorIndex.Reference.MANAGED_DEPENDENCY;
+import static org.apache.maven.model.jdom.etl.ReactorIndex.Reference.PLUGIN;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for the {@link ReactorIndex} class.
+ */
+public class ReactorIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File rootPomFile;
+
+  @Before
+  public void setUp() throws IOException {
+    rootPomFile = writePom("pom.xml", "<project>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>root</artifactId>\n" +
+            "  <version>1</version>\n" +
+            "  <modules>\n" +
+            "    <module>a</module>\n" +
+            "    <module>b/pom.xml</module>\n" +
+            "  </modules>\n" +
+            "  <dependencyManagement>\n" +
+            "    <dependencies>\n" +
+            "      <dependency><groupId>g</groupId><artifactId>a</artifactId><version>1</version></dependency>\n" +
+            "    </dependencies>\n" +
+            "  </dependencyManagement>\n" +
+            "</project>\n");
+    writePom("a/pom.xml", "<project>\n" +
+            "  <parent><groupId>g</groupId><artifactId>root</artifactId><version>1</version></parent>\n" +
+            "  <artifactId>a</artifactId>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>g</groupId><artifactId>b</artifactId></dependency>\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId><version>1</version></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n");
+    writePom("b/pom.xml", "<project>\n" +
+            "  <parent><groupId>g</groupId><artifactId>root</artifactId><version>1</version></parent>\n" +
+            "  <artifactId>b</artifactId>\n" +
+            "  <modules>\n" +
+            "    <module>c</module>\n" +
+            "  </modules>\n" +
+            "  <build>\n" +
+            "    <plugins>\n" +
+            "      <plugin><artifactId>maven-jar-plugin</artifactId></plugin>\n" +
+            "    </plugins>\n" +
+            "  </build>\n" +
+            "</project>\n");
+    writePom("b/c/pom.xml", "<project>\n" +
+            "  <parent><groupId>g</groupId><artifactId>b</artifactId><version>1</version></parent>\n" +
+            "  <artifactId>c</artifactId>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>x</groupId><artifactId>y</artifactId><version>1</version></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n");
+  }
+
+  @Test
+  public void queries() throws IOException, JDOMException {
+    ReactorIndex index = build();
+
+    assertEquals(new HashSet<>(Arrays.asList("g:root", "g:a", "g:b", "g:c")), index.getModuleKeys());
+    assertEquals(4, index.getModelETLs().size());
+    assertEquals("a", index.getModelETL("g:a").getModel().getArtifactId());
+    assertNull(index.getModelETL("x:y"));
+
+    assertEquals("g:root", index.getParentKey("g:a"));
+    assertNull(index.getParentKey("g:root"));
+    assertEquals(new HashSet<>(Arrays.asList("g:a", "g:b")), index.getChildKeys("g:root"));
+    assertEquals(Collections.singleton("g:c"), index.getChildKeys("g:b"));
+
+    assertEquals(new HashSet<>(Arrays.asList("g:a", "g:c")), index.getReferrerKeys("x:y", DEPENDENCY));
+    assertEquals(Collections.singleton("g:a"), index.getReferrerKeys("g:b"));
+    assertEquals(Collections.singleton("g:root"), index.getReferrerKeys("g:a", MANAGED_DEPENDENCY));
+    assertEquals(Collections.singleton("g:b"), index.getReferrerKeys("org.apache.maven.plugins:maven-jar-plugin", PLUGIN));
+    assertTrue(index.getReferrerKeys("g:a", DEPENDENCY).isEmpty());
+  }
+
+  @Test
+  public void modifications() throws IOException, JDOMException {
+    ReactorIndex index = build();
+
+    Model a = index.getModelETL("g:a").getModel();
+    a.getDependencies().remove(1);
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("x");
+    dependency.setArtifactId("z");
+    a.getDependencies().add(dependency);
+    assertEquals(Collections.singleton("g:c"), index.getReferrerKeys("x:y"));
+    assertEquals(Collections.singleton("g:a"), index.getReferrerKeys("x:z"));
+
+    index.getModelETL("g:c").getModel().setArtifactId("d");
+    assertEquals(Collections.singleton("g:d"), index.getChildKeys("g:b"));
+    assertEquals(Collections.singleton("g:d"), index.getReferrerKeys("x:y"));
+    assertNull(index.getModelETL("g:c"));
+
+    index.getModelETL("g:b").getModel().getParent().setArtifactId("other");
+    assertEquals(Collections.singleton("g:a"), index.getChildKeys("g:root"));
+    assertEquals(Collections.singleton("g:b"), index.getChildKeys("g:other"));
+  }
+
+  @Test
+  public void moduleModifications() throws IOException, JDOMException {
+    ReactorIndex index = build();
+
+    // Removing a module removes its modules, too.
+    index.getModelETL("g:root").getModel().getModules().remove("b/pom.xml");
+    assertEquals(new HashSet<>(Arrays.asList("g:root", "g:a")), index.getModuleKeys());
+
+    writePom("e/pom.xml", "<project>\n" +
+            "  <groupId>g</groupId>\n" +
+            "  <artifactId>e</artifactId>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><groupId>g</groupId><artifactId>a</artifactId></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n");
+    index.getModelETL("g:root").getModel().getModules().add("e");
+    assertEquals(new HashSet<>(Arrays.asList("g:root", "g:a", "g:e")), index.getModuleKeys());
+    assertEquals(Collections.singleton("g:e"), index.getReferrerKeys("g:a", DEPENDENCY));
+  }
+
+  @Test(expected = FileNotFoundException.class)
+  public void missingModule() throws IOException, JDOMException {
+    new File(folder.getRoot(), "b/c/pom.xml").delete();
+    build();
+  }
+
+  private ReactorIndex build() throws IOException, JDOMException {
+    ModelETLRequest request = new ModelETLRequest();
+    request.setLineSeparator(UNIX_LS);
+    return ReactorIndex.build(rootPomFile, new JDomModelETLFactory(), request);
+  }
+
+  private File writePom(String path, String content) throws IOException {
+    File pomFile = new File(folder.getRoot(), path);
+    pomFile.getParentFile().mkdirs();
+    FileUtils.fileWrite(pomFile, "UTF-8", content);
+    return pomFile;
+  }
+}
@@ -19,6 +19,7 @@ package org.apache.maven.model.jdom.it;
 import org.apache.maven.model.Model;
 import org.apache.maven.model.jdom.etl.JDomModelETL;
 import org.apache.maven.model.jdom.etl.JDomModelETLFactory;
+import org.apache.maven.model.jdom.etl.JDomStAXModelETLFactory;
 import org.apache.maven.model.jdom.etl.ModelETLRequest;
 import org.codehaus.plexus.util.FileUtils;
 import org.jdom2.JDOMException;
@@ -26,13 +27,20 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.rules.TemporaryFolder;
 import org.junit.rules.TestName;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
 
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
 
+import static java.util.Collections.singletonList;
 import static org.apache.maven.model.jdom.etl.ModelETLRequest.UNIX_LS;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -49,11 +57,33 @@ import static org.junit.Assert.fail;
  * transformation output is written to a file {@code [TEST_CLASS]_[TEST_METHOD]_output-pom.xml}. It is placed into a
  * folder that can be configured using the system property the {@code test.output.directory}. If that property is not
  * set the output will be written to a temporary file that is deleted after the test.
+ * <p>
+ * Each test is run twice, without and with {@link ModelETLRequest#setIncrementalSave(boolean) incremental saving}.
+ * Incremental saving copies the unmodified parts of the input unchanged, including whitespace within tags that is
+ * normalized otherwise. Where this makes a difference, the expected XML for incremental saving is read from a file
+ * {@code [TEST_CLASS]_[TEST_METHOD]_expected-incremental-pom.xml}.
+ * <p>
+ * The ETL implementation under test is selected by its role hint in the system property
+ * {@code test.model.etl.factory}, which defaults to {@link JDomModelETLFactory#ROLE_HINT}. The
+ * {@link JDomStAXModelETLFactory#ROLE_HINT StAX variant} does not support incremental saving, so the tests are only
+ * run without it then.
  *
  * @author Marc Rohlfs, CoreMedia AG
  */
+@RunWith(Parameterized.class)
 public abstract class AbstractJDomModelEtlIT {
 
+  private static final String MODEL_ETL_FACTORY =
+          System.getProperty("test.model.etl.factory", JDomModelETLFactory.ROLE_HINT);
+
+  @Parameters(name = "incrementalSave={0}")
+  public static List<Boolean> incrementalSave() {
+    return isStAX() ? singletonList(false) : Arrays.asList(false, true);
+  }
+
+  @Parameter
+  public boolean incrementalSave;
+
   @Rule
   public TestName testName = new TestName();
 
@@ -72,20 +102,22 @@ public abstract class AbstractJDomModelEtlIT {
   @Before
   public void setUp() throws IOException, JDOMException, URISyntaxException {
     String testResourceNamePrefix = getTestResourceNamePrefix();
-    expectedPomFile = getTestResource(testResourceNamePrefix + "_expected-pom.xml");
-    outputPomFile = getOutputFile(testResourceNamePrefix + "_output-pom.xml");
+    expectedPomFile = getExpectedPomFile(testResourceNamePrefix);
+    String variant = (isStAX() ? "_stax" : "") + (incrementalSave ? "_incremental" : "");
+    outputPomFile = getOutputFile(getClass().getSimpleName() + "_" + getTestMethodName() + variant + "_output-pom.xml");
 
     ModelETLRequest modelETLRequest = new ModelETLRequest();
     modelETLRequest.setLineSeparator(UNIX_LS);
+    modelETLRequest.setIncrementalSave(incrementalSave);
 
     File inputPomFile = getTestResource(testResourceNamePrefix + "_input-pom.xml");
-    subjectModelETL = new JDomModelETLFactory().newInstance(modelETLRequest);
+    subjectModelETL = newModelETL(modelETLRequest);
     subjectModelETL.extract(inputPomFile);
     subjectModel = subjectModelETL.getModel();
 
     try {
       File sourcePomFile = getTestResource(testResourceNamePrefix + "_source-pom.xml");
-      JDomModelETL sourceModelETL = new JDomModelETLFactory().newInstance(modelETLRequest);
+      JDomModelETL sourceModelETL = newModelETL(modelETLRequest);
       sourceModelETL.extract(sourcePomFile);
       sourceModel = sourceModelETL.getModel();
     } catch (FileNotFoundException ignored) {
@@ -93,6 +125,33 @@ public abstract class AbstractJDomModelEtlIT {
     }
   }
 
+  /**
+   * Returns the class whose name prefixes the test resources. Subclasses that run the tests of another class with a
+   * different setup can reuse its test resources.
+   *
+   * @return the class.
+   */
+  protected Class<?> getTestResourceClass() {
+    return getClass();
+  }
+
+  /**
+   * Creates the ETL that extracts the input and source POMs.
+   *
+   * @param modelETLRequest the request.
+   * @return the ETL.
+   */
+  protected JDomModelETL newModelETL(ModelETLRequest modelETLRequest) {
+    if (isStAX()) {
+      return new JDomStAXModelETLFactory().newInstance(modelETLRequest);
+    }
+    return new JDomModelETLFactory().newInstance(modelETLRequest);
+  }
+
+  private static boolean isStAX() {
+    return JDomStAXModelETLFactory.ROLE_HINT.equals(MODEL_ETL_FACTORY);
+  }
+
   @SuppressWarnings("WeakerAccess")
   protected void assertTransformation() throws IOException {
     subjectModelETL.load(outputPomFile);
@@ -136,8 +195,19 @@ public abstract class AbstractJDomModelEtlIT {
     }
   }
 
+  private File getExpectedPomFile(String testResourceNamePrefix) throws FileNotFoundException, URISyntaxException {
+    if (incrementalSave) {
+      try {
+        return getTestResource(testResourceNamePrefix + "_expected-incremental-pom.xml");
+      } catch (FileNotFoundException ignored) {
+        // Most tests expect the same XML with and without incremental saving.
+      }
+    }
+    return getTestResource(testResourceNamePrefix + "_expected-pom.xml");
+  }
+
   private File getTestResource(String filename) throws FileNotFoundException, URISyntaxException {
-    URL resource = this.getClass().getResource(filename);
+    URL resource = getTestResourceClass().getResource(filename);
     if (resource == null) {
       throw new FileNotFoundException("Test resource not found: " + filename);
     } else {
@@ -146,6 +216,15 @@ public abstract class AbstractJDomModelEtlIT {
   }
 
   private String getTestResourceNamePrefix() {
-    return this.getClass().getSimpleName() + "_" + testName.getMethodName();
+    return getTestResourceClass().getSimpleName() + "_" + getTestMethodName();
+  }
+
+  /**
+   * Returns the name of the test method, without the parameters that the {@link Parameterized} runner appends.
+   */
+  private String getTestMethodName() {
+    String methodName = testName.getMethodName();
+    int parametersIndex = methodName.indexOf('[');
+    return parametersIndex < 0 ? methodName : methodName.substring(0, parametersIndex);
   }
 }
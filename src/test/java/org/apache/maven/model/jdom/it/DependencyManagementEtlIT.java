@@ -21,6 +21,7 @@ import org.apache.maven.model.DependencyManagement;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -37,6 +38,19 @@ public class DependencyManagementEtlIT extends DependenciesEtlIT {
     assertTransformation();
   }
 
+  @Test
+  public void addAllDependencies() throws IOException {
+    Dependency dependency = new Dependency();
+    dependency.setGroupId("org.apache.commons");
+    dependency.setArtifactId("commons-exec");
+    dependency.setVersion("1.3");
+
+    List<Dependency> dependencies = new ArrayList<>(getSourceModel().getDependencies());
+    dependencies.add(1, dependency);
+    subjectModel.getDependencyManagement().getDependencies().addAll(dependencies);
+    assertTransformation();
+  }
+
   @Test
   public void addModelDependency() throws IOException {
     Dependency dependency = new Dependency();
@@ -0,0 +1,86 @@
+package org.apache.maven.model.jdom.util;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.apache.maven.model.jdom.util.JDomUtils.getChildElement;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Unit test for the {@link JDomChildIndex} class.
+ */
+public class JDomChildIndexTest {
+
+  private Element properties;
+
+  @Before
+  public void setUp() throws JDOMException, IOException {
+    StringBuilder xml = new StringBuilder("<project>\n  <properties>\n");
+    for (int i = 0; i < JDomChildIndex.MIN_CONTENT_SIZE; i++) {
+      xml.append("    <property-").append(i).append(">").append(i).append("</property-").append(i).append(">\n");
+    }
+    xml.append("  </properties>\n</project>\n");
+    Document document = new SAXBuilder().build(new StringReader(xml.toString()));
+    JDomUtils.indexChildElements(document);
+    properties = document.getRootElement().getChild("properties");
+  }
+
+  @Test
+  public void getChild() {
+    assertEquals("0", getChildElement("property-0", properties).getText());
+    assertEquals("15", getChildElement("property-15", properties).getText());
+    assertNull(getChildElement("unknown", properties));
+  }
+
+  @Test
+  public void insertAndRemove() {
+    Element added = JDomUtils.insertNewElement("added", properties);
+    assertSame(added, getChildElement("added", properties));
+
+    JDomUtils.removeChildElement(properties, added);
+    assertNull(getChildElement("added", properties));
+
+    Element property = getChildElement("property-3", properties);
+    JDomUtils.rewriteElement("property-3", null, properties);
+    assertNull(property.getParent());
+    assertNull(getChildElement("property-3", properties));
+  }
+
+  @Test
+  public void insertBeforeExistingChildWithSameName() {
+    Element existing = getChildElement("property-5", properties);
+    Element added = JDomUtils.insertNewElement("property-5", properties, 0);
+    assertSame(added, getChildElement("property-5", properties));
+
+    JDomUtils.removeChildElement(properties, added);
+    assertSame(existing, getChildElement("property-5", properties));
+  }
+
+  @Test
+  public void modificationsFromOutside() {
+    assertNotNull(getChildElement("property-1", properties));
+
+    Element added = new Element("property-2");
+    properties.addContent(0, added);
+    assertSame(added, getChildElement("property-2", properties));
+
+    properties.getChild("property-1").setName("renamed");
+    assertNull(getChildElement("property-1", properties));
+    assertNotNull(getChildElement("renamed", properties));
+
+    added.detach();
+    properties.getChild("property-7").detach();
+    assertEquals("2", getChildElement("property-2", properties).getText());
+    assertNull(getChildElement("property-7", properties));
+  }
+}
@@ -0,0 +1,133 @@
+package org.apache.maven.model.jdom.util;
+
+import org.jdom2.Document;
+import org.jdom2.Element;
+import org.jdom2.JDOMException;
+import org.jdom2.input.SAXBuilder;
+import org.jdom2.output.Format;
+import org.jdom2.output.XMLOutputter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEPENDENCIES;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_DEPENDENCY_MANAGEMENT;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_MODULES;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PROJECT;
+import static org.apache.maven.model.jdom.util.JDomCfg.POM_ELEMENT_PROPERTIES;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for the {@link JDomCleanup} class.
+ */
+public class JDomCleanupTest {
+
+  private static final List<String> EMPTY_ELEMENTS = Arrays.asList(POM_ELEMENT_MODULES, POM_ELEMENT_PROPERTIES,
+          POM_ELEMENT_DEPENDENCIES, POM_ELEMENT_DEPENDENCY_MANAGEMENT);
+  private static final List<String> PROFILES_PARENTS = Collections.singletonList(POM_ELEMENT_PROJECT);
+
+  @Test
+  public void sameResultAsCleanupHelper() throws IOException, JDOMException {
+    for (String test : Arrays.asList("removeElementWithEmptyChildren", "removeElementWithOnlyEmptyChildren",
+            "removeNewLines", "testRemoveElementWithEmptyChildren")) {
+      String resource = "/org/apache/maven/model/jdom/etl/JDomModelETLTest_" + test + "_input-pom.xml";
+
+      Element expected = new SAXBuilder().build(getClass().getResource(resource)).getRootElement();
+      cleanupWithHelper(expected);
+
+      Element actual = new SAXBuilder().build(getClass().getResource(resource)).getRootElement();
+      new JDomCleanup(EMPTY_ELEMENTS, PROFILES_PARENTS, true).cleanup(actual);
+
+      assertEquals(test, toString(expected), toString(actual));
+    }
+  }
+
+  @Test
+  public void emptinessPropagatesUpwards() throws IOException, JDOMException {
+    Element project = parse("<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <dependencyManagement>\n" +
+            "    <dependencies>\n" +
+            "    </dependencies>\n" +
+            "  </dependencyManagement>\n" +
+            "</project>");
+
+    // The order of the names does not matter.
+    new JDomCleanup(Arrays.asList(POM_ELEMENT_DEPENDENCY_MANAGEMENT, POM_ELEMENT_DEPENDENCIES), PROFILES_PARENTS, false)
+            .cleanup(project);
+
+    assertEquals("<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "</project>", toString(project));
+  }
+
+  @Test
+  public void emptyProfiles() throws IOException, JDOMException {
+    String pom = "<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <profiles>\n" +
+            "    <!-- empty -->\n" +
+            "    <profile>\n" +
+            "      <id>a</id>\n" +
+            "      <properties>\n" +
+            "      </properties>\n" +
+            "    </profile>\n" +
+            "\n" +
+            "\n" +
+            "    <profile>\n" +
+            "      <id>b</id>\n" +
+            "      <modules>\n" +
+            "        <module>b</module>\n" +
+            "      </modules>\n" +
+            "    </profile>\n" +
+            "  </profiles>\n" +
+            "</project>";
+    Element expected = parse(pom);
+    cleanupWithHelper(expected);
+    Element project = parse(pom);
+
+    new JDomCleanup(EMPTY_ELEMENTS, PROFILES_PARENTS, true).cleanup(project);
+
+    assertEquals(toString(expected), toString(project));
+    assertEquals("<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "  <profiles>\n" +
+            "\n" +
+            "    <profile>\n" +
+            "      <id>b</id>\n" +
+            "      <modules>\n" +
+            "        <module>b</module>\n" +
+            "      </modules>\n" +
+            "    </profile>\n" +
+            "  </profiles>\n" +
+            "</project>", toString(project));
+
+    project.getChild("profiles").getChild("profile").removeChild("modules");
+    new JDomCleanup(EMPTY_ELEMENTS, PROFILES_PARENTS, true).cleanup(project);
+
+    assertEquals("<project>\n" +
+            "  <modelVersion>4.0.0</modelVersion>\n" +
+            "</project>", toString(project));
+  }
+
+  private static void cleanupWithHelper(Element rootElement) {
+    for (String name : EMPTY_ELEMENTS) {
+      JDomCleanupHelper.cleanupEmptyElements(rootElement, name);
+    }
+    JDomCleanupHelper.cleanupEmptyProfiles(rootElement, PROFILES_PARENTS);
+    JDomCleanupHelper.squashMultilines(rootElement);
+  }
+
+  private static Element parse(String xml) throws IOException, JDOMException {
+    Document document = new SAXBuilder().build(new StringReader(xml));
+    return document.getRootElement();
+  }
+
+  private static String toString(Element element) {
+    return new XMLOutputter(Format.getRawFormat().setLineSeparator("\n")).outputString(element);
+  }
+}
@@ -1,9 +1,15 @@
 package org.apache.maven.model.jdom.util;
 
+import org.jdom2.Comment;
+import org.jdom2.Content;
+import org.jdom2.Element;
 import org.jdom2.Text;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class JDomContentHelperTest {
@@ -32,4 +38,51 @@ public class JDomContentHelperTest {
     assertTrue(JDomContentHelper.isMultiNewLine(new Text("\n\n\n      ")));
     assertFalse(JDomContentHelper.isMultiNewLine(new Text("\ntext\n\n    ")));
   }
+
+  @Test
+  public void indexInParent() {
+    Element parent = new Element("parent");
+    for (int i = 0; i < 10; i++) {
+      parent.addContent(new Element("child" + i));
+    }
+    Content child = parent.getContent(5);
+
+    assertEquals(5, JDomContentHelper.indexInParent(child));
+    assertEquals(5, JDomContentHelper.indexInParent(child, 0));
+    assertEquals(5, JDomContentHelper.indexInParent(child, 9));
+    assertEquals(5, JDomContentHelper.indexInParent(child, 42));
+
+    // The hint is validated.
+    parent.removeContent(0);
+    assertEquals(4, JDomContentHelper.indexInParent(child, 5));
+    parent.addContent(0, new Text("\n"));
+    parent.addContent(0, new Text("\n"));
+    assertEquals(6, JDomContentHelper.indexInParent(child, 4));
+
+    assertEquals(-1, JDomContentHelper.indexInParent(new Element("detached")));
+  }
+
+  @Test
+  public void siblings() {
+    Element parent = new Element("parent");
+    Comment comment = new Comment("comment");
+    Text newline = new Text("\n  ");
+    Element child = new Element("child");
+    parent.addContent(comment).addContent(newline).addContent(child);
+
+    assertSame(newline, JDomContentHelper.getPreviousSibling(child));
+    assertSame(comment, JDomContentHelper.getPreviousSibling(newline));
+    assertNull(JDomContentHelper.getPreviousSibling(comment));
+    assertSame(newline, JDomContentHelper.getNextSibling(comment));
+    assertSame(child, JDomContentHelper.getNextSibling(newline));
+    assertNull(JDomContentHelper.getNextSibling(child));
+    assertNull(JDomContentHelper.getNextSibling(new Element("detached")));
+
+    assertSame(newline, JDomContentHelper.getPreviousSibling(child, 2));
+    assertSame(comment, JDomContentHelper.getPreviousSibling(newline, 1));
+    assertNull(JDomContentHelper.getPreviousSibling(comment, 0));
+    assertSame(child, JDomContentHelper.getNextSibling(newline, 1));
+    assertNull(JDomContentHelper.getNextSibling(child, 2));
+    assertNull(JDomContentHelper.getPreviousSibling(new Element("detached"), -1));
+  }
 }
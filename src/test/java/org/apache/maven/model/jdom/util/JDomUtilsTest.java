@@ -21,10 +21,12 @@ package org.apache.maven.model.jdom.util;
 
 import org.jdom2.Element;
 import org.jdom2.JDOMException;
+import org.jdom2.Text;
 import org.jdom2.input.SAXBuilder;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.io.StringReader;
 
 import static org.apache.maven.model.jdom.util.JDomUtils.detectIndentation;
 import static org.jdom2.filter.Filters.element;
@@ -49,6 +51,26 @@ public class JDomUtilsTest {
     assertIndentation(8, detectIndentation(root.getContent(element("detectByChild")).get(0)));
   }
 
+  @Test
+  public void testDetectIndentationAfterModifications() throws JDOMException, IOException {
+    Element dependencies = new SAXBuilder().build(new StringReader("<project>\n" +
+            "  <dependencies>\n" +
+            "    <dependency><artifactId>a</artifactId></dependency>\n" +
+            "  </dependencies>\n" +
+            "</project>\n")).getRootElement().getChild("dependencies");
+    for (int i = 0; i < 3; i++) {
+      JDomUtils.insertNewElement("dependency", dependencies);
+      assertEquals("    ", detectIndentation(dependencies));
+    }
+
+    ((Text) dependencies.getContent(0)).setText("\n\t\t");
+    assertEquals("\t\t", detectIndentation(dependencies));
+    assertEquals("\t\t  ", detectIndentation(dependencies.getChild("dependency")));
+
+    dependencies.addContent(0, new Text("\n "));
+    assertEquals(" ", detectIndentation(dependencies));
+  }
+
   private static void assertIndentation(int expectedIndentSpaces, String actualIndentation) {
     assertTrue(actualIndentation.matches(" *"));
     assertEquals(expectedIndentSpaces, actualIndentation.length());